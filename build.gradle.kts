@@ -52,10 +52,16 @@ tasks.withType<Javadoc> {
 
 // JMH micro-benchmarks (isolated source set; not wired into `check`/`build`).
 // Run with: gw jmh --args "<BenchmarkNameFilter> -f 1 -wi 3 -i 5"
+// Add "-prof gc" to the args to also report the allocation rate.
 sourceSets {
     create("jmh") {
         compileClasspath += sourceSets["main"].output
         runtimeClasspath += sourceSets["main"].output
+        // Benchmark against the same real-world sources as the data flow functional tests
+        resources {
+            srcDir("src/test/resources")
+            include("dataflow-functional-tests/**")
+        }
     }
 }
 
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.controlflow;
+
+import org.openjdk.jmh.annotations.*;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Solves the built-in bit vector problems over the control flow graph of a single, branch and loop heavy method.
+ * The graph is computed once during setup, so only the cost of indexing the code points and iterating the worklist
+ * to a fixed point is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BitVectorProblemBenchmark {
+
+    @Param({"10", "100"})
+    public int blocks;
+
+    private ControlFlowSummary summary;
+
+    @Setup
+    public void setup() {
+        StringBuilder source = new StringBuilder();
+        source.append("class Bench {\n");
+        source.append("    int run(int n, boolean b) {\n");
+        source.append("        int a = 0, c = 1, d = n;\n");
+        for (int i = 0; i < blocks; i++) {
+            source.append("        for (int i").append(i).append(" = 0; i").append(i).append(" < n; i").append(i).append("++) {\n");
+            source.append("            if (b) {\n");
+            source.append("                a = c + i").append(i).append(";\n");
+            source.append("            } else {\n");
+            source.append("                c += a;\n");
+            source.append("            }\n");
+            source.append("            while (d > a) {\n");
+            source.append("                d--;\n");
+            source.append("            }\n");
+            source.append("        }\n");
+        }
+        source.append("        return a + c + d;\n");
+        source.append("    }\n");
+        source.append("}\n");
+
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        J.CompilationUnit cu = (J.CompilationUnit) JavaParser.fromJavaVersion().build()
+                .parse(ctx, source.toString())
+                .collect(toList())
+                .get(0);
+        AtomicReference<Cursor> body = new AtomicReference<>();
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Block visitBlock(J.Block block, Integer p) {
+                if (getCursor().getParentTreeCursor().getValue() instanceof J.MethodDeclaration) {
+                    body.set(getCursor());
+                    return block;
+                }
+                return super.visitBlock(block, p);
+            }
+        }.visit(cu, 0);
+        summary = ControlFlow.startingAt(body.get()).findControlFlow().some();
+    }
+
+    @Benchmark
+    public ReachingDefinitions reachingDefinitions() {
+        return ReachingDefinitions.analyze(summary);
+    }
+
+    @Benchmark
+    public LiveVariables liveVariables() {
+        return LiveVariables.analyze(summary);
+    }
+}
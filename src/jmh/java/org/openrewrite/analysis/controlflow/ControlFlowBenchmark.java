@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.controlflow;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Builds the control flow graph of a single synthetic method, and computes which basic blocks are reachable in it.
+ * The method is generated in one of several {@link Shape shapes} with roughly the requested number of statements.
+ * <p>
+ * Every invocation of {@link #findControlFlow()} starts from a fresh cursor, so that the graph cached
+ * on the cursor by {@link ControlFlow#findControlFlow()} is never reused.
+ * Run with the gc profiler to also see the allocation rate:
+ * {@code gw jmh --args "ControlFlowBenchmark -prof gc"}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xss16m") // graph construction and traversal are recursive
+@State(Scope.Benchmark)
+public class ControlFlowBenchmark {
+
+    public enum Shape {
+        STRAIGHT_LINE {
+            @Override
+            int append(StringBuilder body, int i) {
+                body.append("        x = x + ").append(i).append(";\n");
+                return 1;
+            }
+        },
+        NESTED_IF {
+            private static final int DEPTH = 50;
+
+            @Override
+            int append(StringBuilder body, int i) {
+                for (int d = 0; d < DEPTH; d++) {
+                    body.append("        if (x > ").append(i + d).append(") {\n");
+                    body.append("            x--;\n");
+                }
+                for (int d = 0; d < DEPTH; d++) {
+                    body.append("        } else {\n");
+                    body.append("            x++;\n");
+                    body.append("        }\n");
+                }
+                return DEPTH * 3;
+            }
+        },
+        SWITCH {
+            private static final int CASES = 100;
+
+            @Override
+            int append(StringBuilder body, int i) {
+                body.append("        switch (x % ").append(CASES).append(") {\n");
+                for (int c = 0; c < CASES; c++) {
+                    body.append("            case ").append(c).append(":\n");
+                    body.append("                x += ").append(c).append(";\n");
+                    body.append("                break;\n");
+                }
+                body.append("            default:\n");
+                body.append("                x = 0;\n");
+                body.append("        }\n");
+                return CASES * 2 + 2;
+            }
+        },
+        TRY_FINALLY {
+            private static final int DEPTH = 3;
+
+            @Override
+            int append(StringBuilder body, int i) {
+                for (int d = 0; d < DEPTH; d++) {
+                    body.append("        try {\n");
+                    body.append("            if (x == ").append(i + d).append(") {\n");
+                    body.append("                return x;\n");
+                    body.append("            }\n");
+                }
+                for (int d = 0; d < DEPTH; d++) {
+                    body.append("        } finally {\n");
+                    body.append("            x++;\n");
+                    body.append("        }\n");
+                }
+                return DEPTH * 4;
+            }
+        },
+        LABELED_LOOP {
+            @Override
+            int append(StringBuilder body, int i) {
+                body.append("        outer").append(i).append(":\n");
+                body.append("        for (int i = 0; i < x; i++) {\n");
+                body.append("            inner").append(i).append(":\n");
+                body.append("            while (x > i) {\n");
+                body.append("                if (x % 3 == 0) {\n");
+                body.append("                    continue outer").append(i).append(";\n");
+                body.append("                }\n");
+                body.append("                if (x % 5 == 0) {\n");
+                body.append("                    break inner").append(i).append(";\n");
+                body.append("                }\n");
+                body.append("                x--;\n");
+                body.append("            }\n");
+                body.append("        }\n");
+                return 7;
+            }
+        };
+
+        /**
+         * Appends a group of statements to the method body.
+         *
+         * @return The number of statements appended.
+         */
+        abstract int append(StringBuilder body, int i);
+    }
+
+    @Param
+    public Shape shape;
+
+    @Param({"100", "1000", "10000"})
+    public int statements;
+
+    private Cursor bodyParent;
+    private J.Block body;
+    private ControlFlowSummary summary;
+
+    private final ExecutionContext noValidation = new InMemoryExecutionContext();
+
+    @Setup
+    public void setup() {
+        StringBuilder source = new StringBuilder();
+        source.append("class Bench {\n");
+        source.append("    int run(int x) {\n");
+        for (int i = 0, count = 0; count < statements; i++) {
+            count += shape.append(source, i);
+        }
+        source.append("        return x;\n");
+        source.append("    }\n");
+        source.append("}\n");
+
+        J.CompilationUnit cu = (J.CompilationUnit) JavaParser.fromJavaVersion().build()
+                .parse(new InMemoryExecutionContext(), source.toString())
+                .collect(toList())
+                .get(0);
+        AtomicReference<Cursor> bodyCursor = new AtomicReference<>();
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Block visitBlock(J.Block block, Integer p) {
+                if (getCursor().getParentTreeCursor().getValue() instanceof J.MethodDeclaration) {
+                    bodyCursor.set(getCursor());
+                    return block;
+                }
+                return super.visitBlock(block, p);
+            }
+        }.visit(cu, 0);
+        bodyParent = bodyCursor.get().getParentOrThrow();
+        body = bodyCursor.get().getValue();
+        summary = ControlFlow.startingAt(bodyCursor.get()).findControlFlow().some();
+        ControlFlowValidation.set(noValidation, ControlFlowValidation.OFF);
+    }
+
+    @Benchmark
+    public ControlFlowSummary findControlFlow() {
+        return ControlFlow.startingAt(new Cursor(bodyParent, body)).findControlFlow().some();
+    }
+
+    @Benchmark
+    public ControlFlowSummary findControlFlowWithoutValidation() {
+        return ControlFlow.startingAt(new Cursor(bodyParent, body)).findControlFlow(noValidation).some();
+    }
+
+    @Benchmark
+    public void computeReachableBasicBlock(Blackhole bh) {
+        bh.consume(summary.computeReachableBasicBlock((guard, branch) -> false));
+    }
+}
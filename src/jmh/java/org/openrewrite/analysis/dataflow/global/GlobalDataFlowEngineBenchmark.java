@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.dataflow.global;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.analysis.InvocationMatcher;
+import org.openrewrite.analysis.dataflow.DataFlowNode;
+import org.openrewrite.analysis.dataflow.DataFlowSpec;
+import org.openrewrite.analysis.trait.expr.Literal;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.JavaSourceFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Compares the {@link GlobalDataFlowSettings.Engine engines} that connect sources to sinks once the flow summaries
+ * of all source files have been linked. Every generated class calls methods of other classes, both directly
+ * and through a relaying method, so that flows cross source files and method summaries can be reused.
+ * <p>
+ * {@link #findParticipants(Blackhole)} only measures linking and solving, while {@link #scanAndFindParticipants(Blackhole)}
+ * includes scanning every source file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GlobalDataFlowEngineBenchmark {
+
+    private static final DataFlowSpec SPEC = new DataFlowSpec() {
+        private final InvocationMatcher systemOutPrintln = InvocationMatcher.fromMethodMatcher(
+                "java.io.PrintStream println(..)"
+        );
+
+        @Override
+        public boolean isSource(DataFlowNode srcNode) {
+            return srcNode
+                    .asExpr(Literal.class)
+                    .bind(Literal::getValue)
+                    .map("42"::equals)
+                    .orSome(false);
+        }
+
+        @Override
+        public boolean isSink(DataFlowNode sinkNode) {
+            return systemOutPrintln.advanced().isAnyArgument(sinkNode.getCursor());
+        }
+    };
+
+    @Param
+    public GlobalDataFlowSettings.Engine engine;
+
+    @Param({"10", "100"})
+    public int classes;
+
+    private final ExecutionContext ctx = new InMemoryExecutionContext();
+    private List<SourceFile> sourceFiles;
+    private List<FlowSummary> summaries;
+    private GlobalDataFlowSettings settings;
+
+    @Setup
+    public void setup() {
+        List<String> sources = new ArrayList<>(classes);
+        for (int i = 0; i < classes; i++) {
+            sources.add(
+                    "class C" + i + " {\n" +
+                    "    static String id(String s) {\n" +
+                    "        return s;\n" +
+                    "    }\n" +
+                    "    static String relay(String s) {\n" +
+                    "        return C" + (i + 1) % classes + ".id(s);\n" +
+                    "    }\n" +
+                    "    void test() {\n" +
+                    "        String a = relay(\"42\");\n" +
+                    "        String b = C" + (i + 7) % classes + ".relay(a);\n" +
+                    "        System.out.println(b);\n" +
+                    "        System.out.println(id(\"0\"));\n" +
+                    "    }\n" +
+                    "}\n"
+            );
+        }
+        sourceFiles = JavaParser.fromJavaVersion().build()
+                .parse(ctx, sources.toArray(new String[0]))
+                .collect(toList());
+        summaries = new ArrayList<>(sourceFiles.size());
+        MethodTypeUtils.DeclarationMethods declarationMethods = new MethodTypeUtils.DeclarationMethods();
+        for (SourceFile sourceFile : sourceFiles) {
+            summaries.add(PartialGlobalDataFlow.summarize(SPEC, declarationMethods, (JavaSourceFile) sourceFile, ctx,
+                    new Cursor(null, "root")));
+        }
+        settings = GlobalDataFlowSettings.DEFAULT.withEngine(engine);
+    }
+
+    @Benchmark
+    public void findParticipants(Blackhole bh) {
+        // Linking releases the summaries from the list it is given, and every invocation links them again
+        try (GlobalFlowGraph graph = GlobalFlowGraph.link(new ArrayList<>(summaries), settings)) {
+            bh.consume(engine == GlobalDataFlowSettings.Engine.TABULATION ?
+                    graph.findParticipantsByTabulation() :
+                    graph.findParticipants());
+        }
+    }
+
+    @Benchmark
+    public void scanAndFindParticipants(Blackhole bh) {
+        GlobalDataFlow.Accumulator acc = GlobalDataFlow.accumulator(SPEC, settings);
+        for (SourceFile sourceFile : sourceFiles) {
+            acc.scanner().visit(sourceFile, ctx);
+        }
+        // The first summary links all the scanned source files
+        bh.consume(acc.renderer().visit(sourceFiles.get(0), ctx));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.dataflow.global;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.analysis.InvocationMatcher;
+import org.openrewrite.analysis.dataflow.DataFlowNode;
+import org.openrewrite.analysis.dataflow.DataFlowSpec;
+import org.openrewrite.analysis.trait.expr.Literal;
+import org.openrewrite.java.JavaParser;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Tracks how {@link GlobalDataFlow#accumulator(DataFlowSpec)} scales with the number of source files. Every
+ * generated class {@code Fi} declares a chain of {@code depth} methods {@code hop0} to {@code hop<depth-1>}, where
+ * each hop calls the next hop of {@code fanOut} other classes in turn before returning, so that every flow from the
+ * source in {@code Fi.test()} to its sink crosses {@code depth} levels of source files.
+ * <p>
+ * {@link #scan(Blackhole)} measures how many times per second all source files can be scanned,
+ * {@link #summary(Scanned, Blackhole)} the latency of the first summary after scanning, which links the summaries
+ * and finds the participating nodes, and {@link #retainedHeapAfterScan(RetainedHeap, Blackhole)} how many bytes of
+ * heap the accumulator still holds on to once scanning is done.
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GlobalDataFlowScalingBenchmark {
+
+    private static final DataFlowSpec SPEC = new DataFlowSpec() {
+        private final InvocationMatcher systemOutPrintln = InvocationMatcher.fromMethodMatcher(
+                "java.io.PrintStream println(..)"
+        );
+
+        @Override
+        public boolean isSource(DataFlowNode srcNode) {
+            return srcNode
+                    .asExpr(Literal.class)
+                    .bind(Literal::getValue)
+                    .map("42"::equals)
+                    .orSome(false);
+        }
+
+        @Override
+        public boolean isSink(DataFlowNode sinkNode) {
+            return systemOutPrintln.advanced().isAnyArgument(sinkNode.getCursor());
+        }
+    };
+
+    @Param({"10", "100", "1000"})
+    public int files;
+
+    @Param({"3"})
+    public int depth;
+
+    @Param({"2"})
+    public int fanOut;
+
+    private final ExecutionContext ctx = new InMemoryExecutionContext();
+    private List<SourceFile> sourceFiles;
+
+    @Setup
+    public void setup() {
+        List<String> sources = new ArrayList<>(files);
+        for (int i = 0; i < files; i++) {
+            StringBuilder source = new StringBuilder("class F" + i + " {\n");
+            for (int hop = 0; hop < depth; hop++) {
+                source.append("    static String hop").append(hop).append("(String s) {\n");
+                if (hop + 1 < depth) {
+                    for (int callee = 1; callee <= fanOut; callee++) {
+                        source.append("        s = F").append((i * fanOut + callee) % files)
+                                .append(".hop").append(hop + 1).append("(s);\n");
+                    }
+                }
+                source.append("        return s;\n");
+                source.append("    }\n");
+            }
+            source.append("    void test() {\n");
+            source.append("        System.out.println(hop0(\"42\"));\n");
+            source.append("        System.out.println(hop0(\"0\"));\n");
+            source.append("    }\n");
+            source.append("}\n");
+            sources.add(source.toString());
+        }
+        sourceFiles = JavaParser.fromJavaVersion().build()
+                .parse(ctx, sources.toArray(new String[0]))
+                .collect(toList());
+    }
+
+    private GlobalDataFlow.Accumulator scanAll() {
+        GlobalDataFlow.Accumulator acc = GlobalDataFlow.accumulator(SPEC);
+        for (SourceFile sourceFile : sourceFiles) {
+            acc.scanner().visit(sourceFile, ctx);
+        }
+        return acc;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void scan(Blackhole bh) {
+        bh.consume(scanAll());
+    }
+
+    @State(Scope.Thread)
+    public static class Scanned {
+        GlobalDataFlow.Accumulator acc;
+
+        @Setup(Level.Invocation)
+        public void setup(GlobalDataFlowScalingBenchmark benchmark) {
+            acc = benchmark.scanAll();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void summary(Scanned scanned, Blackhole bh) {
+        // The first summary links all the scanned source files
+        bh.consume(scanned.acc.summary(new Cursor(new Cursor(null, "root"), sourceFiles.get(0))));
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class RetainedHeap {
+        public long retainedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedBytes = 0;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void retainedHeapAfterScan(RetainedHeap heap, Blackhole bh) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        memory.gc();
+        long before = memory.getHeapMemoryUsage().getUsed();
+        GlobalDataFlow.Accumulator acc = scanAll();
+        memory.gc();
+        heap.retainedBytes += memory.getHeapMemoryUsage().getUsed() - before;
+        bh.consume(acc);
+    }
+}
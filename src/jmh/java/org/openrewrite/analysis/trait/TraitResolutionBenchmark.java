@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.trait;
+
+import fj.data.Validation;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.analysis.dataflow.DataFlowNode;
+import org.openrewrite.analysis.trait.expr.VarAccess;
+import org.openrewrite.analysis.trait.util.TraitErrors;
+import org.openrewrite.analysis.trait.variable.Variable;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the traits that taint analysis resolves for every identifier or variable of a real-world source file from
+ * the data flow functional tests. Each operation visits the whole source file with a fresh cursor, so whatever is
+ * cached per source file is built again, as it is once per recipe visit. The {@code resolved} counter reports the
+ * throughput per identifier, or per variable for {@link #variableGetVarAccesses}. Run it with {@code -prof gc} to
+ * also report the allocation rate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TraitResolutionBenchmark {
+
+    @Param({"ArchiveAnalyzer.java", "FileUtils.java"})
+    public String file;
+
+    private J.CompilationUnit cu;
+
+    @Setup
+    public void setup() throws IOException {
+        String source;
+        try (InputStream in = TraitResolutionBenchmark.class.getClassLoader()
+                .getResourceAsStream("dataflow-functional-tests/" + file)) {
+            if (in == null) {
+                throw new IllegalStateException("No functional test source named " + file);
+            }
+            source = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines()
+                    .collect(Collectors.joining("\n"));
+        }
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        cu = (J.CompilationUnit) JavaParser.fromJavaVersion().build()
+                .parse(ctx, source)
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * The number of identifiers, or variables, resolved in the iteration.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Resolved {
+        public long resolved;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            resolved = 0;
+        }
+    }
+
+    @Benchmark
+    public void dataFlowNodeOf(Blackhole bh, Resolved counter) {
+        new JavaIsoVisitor<Blackhole>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Blackhole bh) {
+                bh.consume(DataFlowNode.of(getCursor()));
+                counter.resolved++;
+                return identifier;
+            }
+        }.visit(cu, bh);
+    }
+
+    @Benchmark
+    public void varAccessViewOf(Blackhole bh, Resolved counter) {
+        new JavaIsoVisitor<Blackhole>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Blackhole bh) {
+                bh.consume(VarAccess.viewOf(getCursor()));
+                counter.resolved++;
+                return identifier;
+            }
+        }.visit(cu, bh);
+    }
+
+    @Benchmark
+    public void varAccessGetVariable(Blackhole bh, Resolved counter) {
+        new JavaIsoVisitor<Blackhole>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Blackhole bh) {
+                VarAccess varAccess = VarAccess.viewOfOrNull(getCursor());
+                if (varAccess != null) {
+                    bh.consume(varAccess.getVariable());
+                }
+                counter.resolved++;
+                return identifier;
+            }
+        }.visit(cu, bh);
+    }
+
+    @Benchmark
+    public void variableGetVarAccesses(Blackhole bh, Resolved counter) {
+        new JavaIsoVisitor<Blackhole>() {
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Blackhole bh) {
+                Validation<TraitErrors, Variable> v = Variable.viewOf(getCursor());
+                if (v.isSuccess()) {
+                    bh.consume(v.success().getVarAccesses());
+                }
+                counter.resolved++;
+                return super.visitVariable(variable, bh);
+            }
+        }.visit(cu, bh);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.trait;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.analysis.dataflow.DataFlowNode;
+import org.openrewrite.analysis.trait.expr.Expr;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Attempts a {@link DataFlowNode} and an {@link Expr} view of every tree in a compilation unit, as data flow
+ * analysis does. Most trees are neither, so this is dominated by failed view creation. Run it with
+ * {@code -prof gc} to compare the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TraitViewFailureBenchmark {
+
+    private J.CompilationUnit cu;
+
+    @Setup
+    public void setup() {
+        StringBuilder source = new StringBuilder("import java.util.*;\nclass Bench {\n");
+        for (int i = 0; i < 20; i++) {
+            source.append("    int field").append(i).append(" = ").append(i).append(";\n");
+            source.append("    List<String> method").append(i).append("(String s, int n) {\n");
+            source.append("        List<String> list = new ArrayList<>();\n");
+            source.append("        for (int j = 0; j < n; j++) {\n");
+            source.append("            if (s.length() > j) {\n");
+            source.append("                list.add(s.substring(j) + field").append(i).append(");\n");
+            source.append("            }\n");
+            source.append("        }\n");
+            source.append("        return list;\n");
+            source.append("    }\n");
+        }
+        source.append("}\n");
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        cu = (J.CompilationUnit) JavaParser.fromJavaVersion().build()
+                .parse(ctx, source.toString())
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    @Benchmark
+    public void viewEveryTree(Blackhole bh) {
+        new JavaIsoVisitor<Blackhole>() {
+            @Override
+            public J preVisit(J tree, Blackhole bh) {
+                bh.consume(DataFlowNode.of(getCursor()));
+                bh.consume(Expr.viewOf(getCursor()));
+                return tree;
+            }
+        }.visit(cu, bh);
+    }
+}
@@ -26,7 +26,9 @@
 import org.openrewrite.analysis.trait.expr.Literal;
 import org.openrewrite.analysis.trait.expr.VarAccess;
 import org.openrewrite.analysis.trait.variable.Variable;
+import org.openrewrite.analysis.util.TreeIndex;
 import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 
 import java.util.concurrent.atomic.AtomicReference;
@@ -41,6 +43,11 @@ public class ConstantFold {
     public static Option<J> findConstantJ(Cursor cursor) {
         return findConstantExpr(cursor)
                 .bind(expr -> {
+                    TreeIndex index = TreeIndex.of(cursor);
+                    Cursor indexed = index == null ? null : index.getCursor(expr.getId());
+                    if (indexed != null) {
+                        return Option.some(indexed.<J>getValue());
+                    }
                     TopFinderVisitor topFinder = new TopFinderVisitor(expr);
                     AtomicReference<J> found = new AtomicReference<>();
                     topFinder.visit(
@@ -118,14 +125,77 @@ public static <T> Option<T> findConstantLiteralValue(Cursor cursor, Class<T> typ
                 .bind(n -> findConstantLiteralValue(n, type));
     }
 
+    /**
+     * Variables whose literal initializer is their only assigned value are looked up in the {@link ConstantTable} of
+     * the source file, rather than searching the source file for their assigned values on every query.
+     */
     public static <T> Option<T> findConstantLiteralValue(DataFlowNode node, Class<T> type) {
         validateTypeIsPrimitiveType(type);
+        J.Literal initializer = node
+                .asExpr(VarAccess.class)
+                .bind(varAccess -> Option.fromNull(
+                        ConstantTable.of(node.getCursor()).getLiteralInitializer(varAccess.getVariable())))
+                .toNull();
+        if (initializer != null) {
+            return Option.fromNull(initializer.getValue())
+                    .filter(type::isInstance)
+                    .map(type::cast);
+        }
         return findConstantLiteral(node)
                 .bind(Literal::getValue)
                 .filter(type::isInstance)
                 .map(type::cast);
     }
 
+    /**
+     * Find the constant value an expression folds to, through effectively final variables, string concatenation
+     * and arithmetic on constants. The constants of all the variables of the source file are computed together the
+     * first time, so that every later query is a lookup.
+     *
+     * @see ConstantTable
+     */
+    public static Option<Object> findConstantValue(Cursor cursor) {
+        if (!(cursor.getValue() instanceof Expression)) {
+            return Option.none();
+        }
+        return Option.fromNull(ConstantTable.of(cursor).getValue(cursor.<Expression>getValue()));
+    }
+
+    public static <T> Option<T> findConstantValue(Cursor cursor, Class<T> type) {
+        validateTypeIsPrimitiveType(type);
+        Class<?> boxed = boxed(type);
+        return findConstantValue(cursor)
+                .filter(boxed::isInstance)
+                .map(value -> {
+                    @SuppressWarnings("unchecked") T t = (T) value;
+                    return t;
+                });
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == char.class) {
+            return Character.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        }
+        return Void.class;
+    }
+
     private static void validateTypeIsPrimitiveType(Class<?> type) {
         if (!type.isPrimitive() && type != String.class) {
             throw new IllegalArgumentException("Type must be a primitive or String type");
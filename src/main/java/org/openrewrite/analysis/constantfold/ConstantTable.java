@@ -0,0 +1,320 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.constantfold;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.analysis.trait.internal.SymbolTable;
+import org.openrewrite.analysis.trait.variable.Field;
+import org.openrewrite.analysis.trait.variable.LocalVariableDecl;
+import org.openrewrite.analysis.trait.variable.Variable;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.tree.*;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The constant value of every effectively final variable of a source file, computed in a single pass over the source
+ * file and cached on its cursor.
+ * <p>
+ * A variable is constant if it is a local variable that is never assigned again or a {@code final} field, and its
+ * initializer folds to a constant. Literals fold to their value, and string concatenation and arithmetic on
+ * constants fold to the result Java would compute. Declarations without a {@link Variable} view, like the components
+ * of a record, are never constant.
+ */
+public final class ConstantTable {
+    private static final String CONSTANT_TABLE = ConstantTable.class.getName();
+
+    private static final Object NOT_CONSTANT = new Object();
+    private static final Object IN_PROGRESS = new Object();
+
+    private final SymbolTable symbolTable;
+    private final Map<Variable, J.VariableDeclarations.NamedVariable> declarations = new HashMap<>();
+    private final Map<Variable, Object> values = new HashMap<>();
+
+    private ConstantTable(SymbolTable symbolTable) {
+        this.symbolTable = symbolTable;
+    }
+
+    public static ConstantTable of(Cursor cursor) {
+        Cursor sourceFile = cursor.dropParentUntil(JavaSourceFile.class::isInstance);
+        return sourceFile.computeMessageIfAbsent(CONSTANT_TABLE, __ -> build(sourceFile));
+    }
+
+    /**
+     * @return The constant value of the variable, or {@code null} if it is not constant or not declared in the
+     * source file.
+     */
+    public @Nullable Object getValue(Variable variable) {
+        Object value = values.get(variable);
+        return value == null || value == NOT_CONSTANT ? null : value;
+    }
+
+    /**
+     * @return The constant the expression folds to, or {@code null} if it does not fold to a constant.
+     */
+    public @Nullable Object getValue(Expression expression) {
+        return fold(expression);
+    }
+
+    /**
+     * @return The literal the variable is initialized with, if the variable is constant and initialized with a literal
+     * rather than an expression that folds to one.
+     */
+    J.@Nullable Literal getLiteralInitializer(Variable variable) {
+        J.VariableDeclarations.NamedVariable declaration = declarations.get(variable);
+        Expression initializer = declaration == null ? null : declaration.getInitializer();
+        return initializer instanceof J.Literal ? (J.Literal) initializer : null;
+    }
+
+    private static ConstantTable build(Cursor sourceFile) {
+        ConstantTable constantTable = new ConstantTable(SymbolTable.of(sourceFile));
+        Set<Variable> reassigned = new HashSet<>();
+        new JavaVisitor<Integer>() {
+            @Override
+            public J visitVariable(J.VariableDeclarations.NamedVariable variable, Integer p) {
+                if (variable.getInitializer() != null) {
+                    Variable declared = constantTable.symbolTable.findVariable(variable.getName());
+                    if (declared instanceof LocalVariableDecl ||
+                        declared instanceof Field && declared.getFlags().contains(Flag.Final)) {
+                        constantTable.declarations.put(declared, variable);
+                    }
+                }
+                return super.visitVariable(variable, p);
+            }
+
+            @Override
+            public J visitAssignment(J.Assignment assignment, Integer p) {
+                addAssigned(assignment.getVariable());
+                return super.visitAssignment(assignment, p);
+            }
+
+            @Override
+            public J visitAssignmentOperation(J.AssignmentOperation assignOp, Integer p) {
+                addAssigned(assignOp.getVariable());
+                return super.visitAssignmentOperation(assignOp, p);
+            }
+
+            @Override
+            public J visitUnary(J.Unary unary, Integer p) {
+                switch (unary.getOperator()) {
+                    case PreIncrement:
+                    case PreDecrement:
+                    case PostIncrement:
+                    case PostDecrement:
+                        addAssigned(unary.getExpression());
+                        break;
+                    default:
+                        break;
+                }
+                return super.visitUnary(unary, p);
+            }
+
+            private void addAssigned(Expression target) {
+                Expression unwrapped = target.unwrap();
+                J.Identifier name = unwrapped instanceof J.FieldAccess ? ((J.FieldAccess) unwrapped).getName() :
+                        unwrapped instanceof J.Identifier ? (J.Identifier) unwrapped : null;
+                Variable variable = name == null ? null : constantTable.symbolTable.findVariable(name);
+                if (variable != null) {
+                    reassigned.add(variable);
+                }
+            }
+        }.visit(sourceFile.getValue(), 0, sourceFile.getParentOrThrow());
+        constantTable.declarations.keySet().removeAll(reassigned);
+        for (Variable variable : constantTable.declarations.keySet()) {
+            constantTable.valueOf(variable);
+        }
+        return constantTable;
+    }
+
+    private @Nullable Object valueOf(Variable variable) {
+        Object value = values.get(variable);
+        if (value == null) {
+            J.VariableDeclarations.NamedVariable declaration = declarations.get(variable);
+            if (declaration == null || declaration.getInitializer() == null) {
+                return null;
+            }
+            // A variable whose initializer refers back to it is not constant
+            values.put(variable, IN_PROGRESS);
+            Object folded = coerce(fold(declaration.getInitializer()), declaration.getType());
+            value = folded == null ? NOT_CONSTANT : folded;
+            values.put(variable, value);
+        }
+        return value == NOT_CONSTANT || value == IN_PROGRESS ? null : value;
+    }
+
+    private @Nullable Object fold(Expression expression) {
+        Expression e = expression.unwrap();
+        if (e instanceof J.Literal) {
+            return ((J.Literal) e).getValue();
+        }
+        if (e instanceof J.Identifier || e instanceof J.FieldAccess) {
+            J.Identifier name = e instanceof J.FieldAccess ? ((J.FieldAccess) e).getName() : (J.Identifier) e;
+            Variable variable = symbolTable.findVariable(name);
+            return variable == null ? null : valueOf(variable);
+        }
+        if (e instanceof J.Binary) {
+            J.Binary binary = (J.Binary) e;
+            Object left = fold(binary.getLeft());
+            if (left == null) {
+                return null;
+            }
+            Object right = fold(binary.getRight());
+            if (right == null) {
+                return null;
+            }
+            if (binary.getOperator() == J.Binary.Type.Addition && (left instanceof String || right instanceof String)) {
+                return String.valueOf(left) + right;
+            }
+            return arithmetic(binary.getOperator(), left, right);
+        }
+        if (e instanceof J.Unary) {
+            J.Unary unary = (J.Unary) e;
+            Object operand = fold(unary.getExpression());
+            if (!isNumeric(operand)) {
+                return null;
+            }
+            if (unary.getOperator() == J.Unary.Type.Positive) {
+                return operand instanceof Character ? (int) (Character) operand : operand;
+            }
+            if (unary.getOperator() == J.Unary.Type.Negative) {
+                return arithmetic(J.Binary.Type.Subtraction, 0, operand);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Binary numeric promotion, as for the operands of arithmetic operators in Java.
+     */
+    private static @Nullable Object arithmetic(J.Binary.Type operator, Object left, Object right) {
+        if (!isNumeric(left) || !isNumeric(right)) {
+            return null;
+        }
+        if (left instanceof Double || right instanceof Double) {
+            double l = toNumber(left).doubleValue();
+            double r = toNumber(right).doubleValue();
+            switch (operator) {
+                case Addition:
+                    return l + r;
+                case Subtraction:
+                    return l - r;
+                case Multiplication:
+                    return l * r;
+                case Division:
+                    return l / r;
+                case Modulo:
+                    return l % r;
+                default:
+                    return null;
+            }
+        }
+        if (left instanceof Float || right instanceof Float) {
+            float l = toNumber(left).floatValue();
+            float r = toNumber(right).floatValue();
+            switch (operator) {
+                case Addition:
+                    return l + r;
+                case Subtraction:
+                    return l - r;
+                case Multiplication:
+                    return l * r;
+                case Division:
+                    return l / r;
+                case Modulo:
+                    return l % r;
+                default:
+                    return null;
+            }
+        }
+        if (left instanceof Long || right instanceof Long) {
+            long l = toNumber(left).longValue();
+            long r = toNumber(right).longValue();
+            switch (operator) {
+                case Addition:
+                    return l + r;
+                case Subtraction:
+                    return l - r;
+                case Multiplication:
+                    return l * r;
+                case Division:
+                    return r == 0 ? null : l / r;
+                case Modulo:
+                    return r == 0 ? null : l % r;
+                default:
+                    return null;
+            }
+        }
+        int l = toNumber(left).intValue();
+        int r = toNumber(right).intValue();
+        switch (operator) {
+            case Addition:
+                return l + r;
+            case Subtraction:
+                return l - r;
+            case Multiplication:
+                return l * r;
+            case Division:
+                return r == 0 ? null : l / r;
+            case Modulo:
+                return r == 0 ? null : l % r;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Converts the value of an initializer to the primitive type of the variable it initializes.
+     */
+    private static @Nullable Object coerce(@Nullable Object value, @Nullable JavaType type) {
+        if (value == null || !(type instanceof JavaType.Primitive)) {
+            return value;
+        }
+        switch ((JavaType.Primitive) type) {
+            case Boolean:
+                return value instanceof Boolean ? value : null;
+            case String:
+                return value instanceof String ? value : null;
+            case Char:
+                return isNumeric(value) ? (char) toNumber(value).intValue() : null;
+            case Byte:
+                return isNumeric(value) ? toNumber(value).byteValue() : null;
+            case Short:
+                return isNumeric(value) ? toNumber(value).shortValue() : null;
+            case Int:
+                return isNumeric(value) ? toNumber(value).intValue() : null;
+            case Long:
+                return isNumeric(value) ? toNumber(value).longValue() : null;
+            case Float:
+                return isNumeric(value) ? toNumber(value).floatValue() : null;
+            case Double:
+                return isNumeric(value) ? toNumber(value).doubleValue() : null;
+            default:
+                return value;
+        }
+    }
+
+    private static boolean isNumeric(@Nullable Object value) {
+        return value instanceof Number || value instanceof Character;
+    }
+
+    private static Number toNumber(Object value) {
+        return value instanceof Character ? (int) (Character) value : (Number) value;
+    }
+}
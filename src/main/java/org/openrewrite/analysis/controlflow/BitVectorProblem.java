@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.controlflow;
+
+import org.openrewrite.Cursor;
+
+import java.util.BitSet;
+
+/**
+ * A monotone data flow problem over the {@link ControlFlowSummary control flow graph} whose lattice is a
+ * bit vector of fixed size. Each bit represents one element of the problem's domain
+ * (e.g. a definition site or a local variable), and the solver computes, for every node of the graph,
+ * the set of facts that hold on entry and on exit.
+ * <p>
+ * Solve a problem with {@link ControlFlowSummary#solve(BitVectorProblem)}.
+ *
+ * @see ReachingDefinitions
+ * @see LiveVariables
+ */
+public interface BitVectorProblem {
+
+    enum Direction {
+        /**
+         * Facts flow from the start of the graph towards the end, e.g. reaching definitions.
+         */
+        FORWARD,
+        /**
+         * Facts flow from the end of the graph towards the start, e.g. live variables.
+         */
+        BACKWARD
+    }
+
+    enum Meet {
+        /**
+         * A fact holds at a join point if it holds on any incoming path ("may" analysis).
+         */
+        UNION,
+        /**
+         * A fact holds at a join point only if it holds on every incoming path ("must" analysis).
+         */
+        INTERSECTION
+    }
+
+    Direction getDirection();
+
+    Meet getMeet();
+
+    /**
+     * The number of bits in the lattice. All facts must be in the range {@code [0, getDomainSize())}.
+     */
+    int getDomainSize();
+
+    /**
+     * Sets the facts that hold at the boundary of the graph: on entry to the {@code Start} node
+     * for {@link Direction#FORWARD} problems, or on exit from the {@code End} node for
+     * {@link Direction#BACKWARD} problems.
+     */
+    void initializeBoundary(BitSet boundary);
+
+    /**
+     * Applies the transfer function of a single code point of a basic block to {@code facts}, in place.
+     * <p>
+     * Code points are presented in execution order for {@link Direction#FORWARD} problems
+     * and in reverse execution order for {@link Direction#BACKWARD} problems.
+     * Condition nodes, start, and end nodes use the identity transfer function, as the
+     * guarding expression is already part of the preceding basic block.
+     */
+    void transfer(Cursor codePoint, BitSet facts);
+}
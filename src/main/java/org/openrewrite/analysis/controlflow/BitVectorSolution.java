@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.controlflow;
+
+import fj.data.Option;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.tree.J;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The fixed point computed for a {@link BitVectorProblem}.
+ * <p>
+ * Facts are always reported in execution order, regardless of the {@link BitVectorProblem.Direction} of the problem:
+ * {@link #getIn(ControlFlowNode)} holds on entry to a node and {@link #getOut(ControlFlowNode)} holds on exit from it.
+ * All returned {@link BitSet}s are copies and may be freely mutated by the caller.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class BitVectorSolution {
+    private final BitVectorProblem problem;
+    private final Map<ControlFlowNode, Integer> nodeIndex;
+    private final BitSet[] in;
+    private final BitSet[] out;
+
+    /**
+     * The number of times a node's transfer function was evaluated before reaching the fixed point.
+     */
+    @Getter
+    private final int evaluations;
+
+    @Nullable
+    private Map<J, CodePoint> codePoints;
+
+    public BitSet getIn(ControlFlowNode node) {
+        return (BitSet) in[indexOf(node)].clone();
+    }
+
+    public BitSet getOut(ControlFlowNode node) {
+        return (BitSet) out[indexOf(node)].clone();
+    }
+
+    /**
+     * The facts that hold immediately before the given code point executes.
+     * A return value of {@link Option#none()} indicates that the code point is not part of the graph.
+     */
+    public Option<BitSet> getFactsBefore(Cursor codePoint) {
+        return Option.fromNull(factsAt(codePoint.getValue(), true));
+    }
+
+    /**
+     * The facts that hold immediately after the given code point executes.
+     * A return value of {@link Option#none()} indicates that the code point is not part of the graph.
+     */
+    public Option<BitSet> getFactsAfter(Cursor codePoint) {
+        return Option.fromNull(factsAt(codePoint.getValue(), false));
+    }
+
+    @Nullable BitSet factsAt(Object tree, boolean before) {
+        CodePoint codePoint = getCodePoints().get(tree);
+        if (codePoint == null) {
+            return null;
+        }
+        List<Cursor> cursors = codePoint.block.getNodeCursors();
+        int blockIndex = nodeIndex.get(codePoint.block);
+        if (problem.getDirection() == BitVectorProblem.Direction.FORWARD) {
+            BitSet facts = (BitSet) in[blockIndex].clone();
+            int last = before ? codePoint.index : codePoint.index + 1;
+            for (int i = 0; i < last; i++) {
+                problem.transfer(cursors.get(i), facts);
+            }
+            return facts;
+        }
+        BitSet facts = (BitSet) out[blockIndex].clone();
+        int first = before ? codePoint.index : codePoint.index + 1;
+        for (int i = cursors.size() - 1; i >= first; i--) {
+            problem.transfer(cursors.get(i), facts);
+        }
+        return facts;
+    }
+
+    private int indexOf(ControlFlowNode node) {
+        Integer index = nodeIndex.get(node);
+        if (index == null) {
+            throw new IllegalArgumentException("Node is not part of the solved control flow graph: " + node);
+        }
+        return index;
+    }
+
+    private Map<J, CodePoint> getCodePoints() {
+        if (codePoints == null) {
+            Map<J, CodePoint> points = new IdentityHashMap<>();
+            for (ControlFlowNode node : nodeIndex.keySet()) {
+                if (node instanceof ControlFlowNode.BasicBlock) {
+                    ControlFlowNode.BasicBlock block = (ControlFlowNode.BasicBlock) node;
+                    List<Cursor> cursors = block.getNodeCursors();
+                    for (int i = 0; i < cursors.size(); i++) {
+                        points.put(cursors.get(i).getValue(), new CodePoint(block, i));
+                    }
+                }
+            }
+            codePoints = points;
+        }
+        return codePoints;
+    }
+
+    @RequiredArgsConstructor
+    private static final class CodePoint {
+        final ControlFlowNode.BasicBlock block;
+        final int index;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.controlflow;
+
+import org.openrewrite.Cursor;
+
+import java.util.*;
+
+/**
+ * Worklist solver for {@link BitVectorProblem}s.
+ * <p>
+ * The graph is flattened into integer adjacency arrays once, and nodes are scheduled in reverse postorder
+ * (with respect to the direction of the problem), so that for reducible graphs a node is usually evaluated
+ * only after all of its predecessors. The worklist itself is a {@link BitSet} of reverse-postorder positions,
+ * which always yields the pending node with the highest priority.
+ */
+final class BitVectorSolver {
+    private BitVectorSolver() {
+    }
+
+    static BitVectorSolution solve(ControlFlowNode.Start start,
+                                   ControlFlowNode.End end,
+                                   Set<ControlFlowNode> allNodes,
+                                   BitVectorProblem problem) {
+        boolean forward = problem.getDirection() == BitVectorProblem.Direction.FORWARD;
+        boolean union = problem.getMeet() == BitVectorProblem.Meet.UNION;
+        int domainSize = problem.getDomainSize();
+
+        ControlFlowNode[] nodes = allNodes.toArray(new ControlFlowNode[0]);
+        int size = nodes.length;
+        Map<ControlFlowNode, Integer> nodeIndex = new IdentityHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            nodeIndex.put(nodes[i], i);
+        }
+
+        int[][] successors = new int[size][];
+        int[] predecessorCount = new int[size];
+        for (int i = 0; i < size; i++) {
+            Set<ControlFlowNode> next = nodes[i].getSuccessorsForTraversal();
+            int[] indices = new int[next.size()];
+            int count = 0;
+            for (ControlFlowNode successor : next) {
+                Integer j = nodeIndex.get(successor);
+                if (j != null) {
+                    indices[count++] = j;
+                    predecessorCount[j]++;
+                }
+            }
+            successors[i] = count == indices.length ? indices : Arrays.copyOf(indices, count);
+        }
+        int[][] predecessors = invert(successors, predecessorCount);
+
+        int[][] flowPredecessors = forward ? predecessors : successors;
+        int[][] flowSuccessors = forward ? successors : predecessors;
+        int entry = nodeIndex.get(forward ? start : end);
+
+        int[] order = reversePostOrder(entry, flowSuccessors);
+        int[] priority = new int[size];
+        for (int p = 0; p < size; p++) {
+            priority[order[p]] = p;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Cursor>[] codePoints = new List[size];
+        for (int i = 0; i < size; i++) {
+            if (nodes[i] instanceof ControlFlowNode.BasicBlock) {
+                codePoints[i] = ((ControlFlowNode.BasicBlock) nodes[i]).getNodeCursors();
+            }
+        }
+
+        BitSet boundary = new BitSet(domainSize);
+        problem.initializeBoundary(boundary);
+
+        // 'before' and 'after' are relative to the direction of the problem
+        BitSet[] before = new BitSet[size];
+        BitSet[] after = new BitSet[size];
+        for (int i = 0; i < size; i++) {
+            before[i] = new BitSet(domainSize);
+            after[i] = new BitSet(domainSize);
+            if (!union) {
+                after[i].set(0, domainSize);
+            }
+        }
+
+        BitSet worklist = new BitSet(size);
+        worklist.set(0, size);
+        BitSet scratch = new BitSet(domainSize);
+        int evaluations = 0;
+        for (int p = worklist.nextSetBit(0); p >= 0; p = worklist.nextSetBit(0)) {
+            worklist.clear(p);
+            evaluations++;
+            int node = order[p];
+
+            BitSet facts = before[node];
+            facts.clear();
+            if (node == entry) {
+                facts.or(boundary);
+            } else if (flowPredecessors[node].length > 0) {
+                if (!union) {
+                    facts.set(0, domainSize);
+                }
+                for (int predecessor : flowPredecessors[node]) {
+                    if (union) {
+                        facts.or(after[predecessor]);
+                    } else {
+                        facts.and(after[predecessor]);
+                    }
+                }
+            }
+
+            scratch.clear();
+            scratch.or(facts);
+            List<Cursor> cursors = codePoints[node];
+            if (cursors != null) {
+                if (forward) {
+                    for (int i = 0; i < cursors.size(); i++) {
+                        problem.transfer(cursors.get(i), scratch);
+                    }
+                } else {
+                    for (int i = cursors.size() - 1; i >= 0; i--) {
+                        problem.transfer(cursors.get(i), scratch);
+                    }
+                }
+            }
+
+            if (!scratch.equals(after[node])) {
+                BitSet previous = after[node];
+                after[node] = scratch;
+                scratch = previous;
+                for (int successor : flowSuccessors[node]) {
+                    worklist.set(priority[successor]);
+                }
+            }
+        }
+
+        return new BitVectorSolution(
+                problem,
+                nodeIndex,
+                forward ? before : after,
+                forward ? after : before,
+                evaluations
+        );
+    }
+
+    private static int[][] invert(int[][] successors, int[] predecessorCount) {
+        int[][] predecessors = new int[successors.length][];
+        for (int i = 0; i < successors.length; i++) {
+            predecessors[i] = new int[predecessorCount[i]];
+        }
+        int[] filled = new int[successors.length];
+        for (int i = 0; i < successors.length; i++) {
+            for (int successor : successors[i]) {
+                predecessors[successor][filled[successor]++] = i;
+            }
+        }
+        return predecessors;
+    }
+
+    /**
+     * Iterative depth-first search, so that very large methods can not overflow the stack.
+     * Nodes not reachable from the entry are scheduled last, in graph order.
+     */
+    private static int[] reversePostOrder(int entry, int[][] next) {
+        int size = next.length;
+        int[] postOrder = new int[size];
+        int visitedCount = 0;
+        boolean[] visited = new boolean[size];
+        int[] stack = new int[size];
+        int[] childPosition = new int[size];
+        int depth = 0;
+
+        stack[depth++] = entry;
+        visited[entry] = true;
+        while (depth > 0) {
+            int node = stack[depth - 1];
+            int[] children = next[node];
+            if (childPosition[depth - 1] < children.length) {
+                int child = children[childPosition[depth - 1]++];
+                if (!visited[child]) {
+                    visited[child] = true;
+                    stack[depth] = child;
+                    childPosition[depth] = 0;
+                    depth++;
+                }
+            } else {
+                postOrder[visitedCount++] = node;
+                depth--;
+            }
+        }
+
+        int[] order = new int[size];
+        int position = 0;
+        for (int i = visitedCount - 1; i >= 0; i--) {
+            order[position++] = postOrder[i];
+        }
+        for (int i = 0; i < size; i++) {
+            if (!visited[i]) {
+                order[position++] = i;
+            }
+        }
+        return order;
+    }
+}
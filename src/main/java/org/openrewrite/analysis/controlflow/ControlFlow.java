@@ -16,11 +16,14 @@
 package org.openrewrite.analysis.controlflow;
 
 import fj.data.Option;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
 import org.openrewrite.Incubating;
 import org.openrewrite.Tree;
 import org.openrewrite.analysis.util.CursorUtil;
@@ -44,23 +47,94 @@
 public final class ControlFlow {
     private static final String CONTROL_FLOW_MESSAGE_KEY = "__CONTROL_FLOW_SUMMARY";
 
+    /**
+     * Graph construction and graph validation are timed separately, so that the cost of checking
+     * invariants can be told apart from the cost of the analysis itself.
+     */
+    private static final Timer BUILD_TIMER = Timer.builder("rewrite.analysis.controlflow")
+            .description("The time spent building control flow graphs")
+            .tag("phase", "build")
+            .register(Metrics.globalRegistry);
+
+    private static final Timer VALIDATE_TIMER = Timer.builder("rewrite.analysis.controlflow")
+            .description("The time spent validating the structural invariants of control flow graphs")
+            .tag("phase", "validate")
+            .register(Metrics.globalRegistry);
+
     @Nullable
     private Cursor start;
 
     /**
      * A return value of {@link Optional#empty()} indicates that control flow can not be computed for the given
      * start point.
+     * <p>
+     * Every graph is {@link ControlFlowValidation#FULL fully} validated.
      */
     public Option<ControlFlowSummary> findControlFlow() {
+        return findControlFlow(ControlFlowValidation.FULL, null);
+    }
+
+    /**
+     * A return value of {@link Optional#empty()} indicates that control flow can not be computed for the given
+     * start point.
+     * <p>
+     * Graphs are validated according to the {@link ControlFlowValidation} configured on the execution context.
+     */
+    public Option<ControlFlowSummary> findControlFlow(ExecutionContext ctx) {
+        return findControlFlow(ControlFlowValidation.get(ctx), ctx);
+    }
+
+    private Option<ControlFlowSummary> findControlFlow(ControlFlowValidation validation, @Nullable ExecutionContext ctx) {
         if (start == null) {
             return Option.none();
         }
-        return start.computeMessageIfAbsent(CONTROL_FLOW_MESSAGE_KEY, __ -> {
+        MemoizedSummary memoized = start.computeMessageIfAbsent(CONTROL_FLOW_MESSAGE_KEY, __ -> {
+            Timer.Sample build = Timer.start();
             ControlFlowSimpleSummary summary = findControlFlowInternal(start, ControlFlowNode.GraphType.METHOD_BODY_OR_STATIC_INITIALIZER_OR_INSTANCE_INITIALIZER);
             ControlFlowSummary cfSummary = ControlFlowSummary.forGraph(summary.start, summary.end);
-            cfSummary.validate();
-            return Option.fromNull(cfSummary);
+            build.stop(BUILD_TIMER);
+            MemoizedSummary built = new MemoizedSummary(cfSummary);
+            // Only full validation is ever asked for without an execution context
+            if (ctx == null || validation.shouldValidate(ctx)) {
+                built.validate();
+            }
+            return built;
         });
+        // The graph may have been built for a caller that asked for less validation than this one
+        if (validation == ControlFlowValidation.FULL && !memoized.validated) {
+            memoized.validate();
+        }
+        return Option.some(memoized.summary);
+    }
+
+    /**
+     * @return Whether the graph memoized for this start point had its structural invariants checked.
+     */
+    boolean isValidated() {
+        MemoizedSummary memoized = start == null ? null : start.getMessage(CONTROL_FLOW_MESSAGE_KEY);
+        return memoized != null && memoized.validated;
+    }
+
+    /**
+     * A graph memoized on its start cursor, along with whether its structural invariants were checked yet.
+     */
+    private static final class MemoizedSummary {
+        private final ControlFlowSummary summary;
+        private boolean validated;
+
+        MemoizedSummary(ControlFlowSummary summary) {
+            this.summary = summary;
+        }
+
+        void validate() {
+            Timer.Sample validate = Timer.start();
+            try {
+                summary.validate();
+            } finally {
+                validate.stop(VALIDATE_TIMER);
+            }
+            validated = true;
+        }
     }
 
     private static ControlFlowSimpleSummary findControlFlowInternal(Cursor start, ControlFlowNode.GraphType graphType) {
@@ -15,8 +15,27 @@
  */
 package org.openrewrite.analysis.controlflow;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 interface ControlFlowDotFileGenerator {
-    String visualizeAsDotfile(String name, boolean darkMode, ControlFlowSummary summary);
+
+    /**
+     * Streams the nodes and edges of the graph to {@code out} as they are rendered,
+     * so that large graphs never need to be held in memory as a single string.
+     */
+    void writeDotfile(String name, boolean darkMode, ControlFlowSummary summary, Appendable out) throws IOException;
+
+    default String visualizeAsDotfile(String name, boolean darkMode, ControlFlowSummary summary) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeDotfile(name, darkMode, summary, sb);
+        } catch (IOException e) {
+            // StringBuilder never throws
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
 
     enum Type {
         DOT {
@@ -33,7 +33,6 @@
 
 import static java.util.Collections.*;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
 import static org.openrewrite.analysis.controlflow.ControlFlowIllegalStateException.exceptionMessageBuilder;
 
 /**
@@ -119,9 +118,24 @@ String toDescriptiveString() {
     @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
     static final class ConditionNode extends ControlFlowNode {
 
+        /**
+         * Resolved once, when the graph is built.
+         */
         private final Guard guard;
         private final boolean truthFirst;
 
+        /**
+         * The value of the condition if it is a boolean literal, otherwise null.
+         */
+        @Nullable
+        private final Boolean constantValue;
+
+        /**
+         * The decisions of the last {@link BarrierGuardPredicate} this node was visited with.
+         */
+        @Nullable
+        private volatile BarrierGuardDecision lastBarrierGuardDecision;
+
         /**
          * The successor that will be evaluated if the {@link #getCondition()}} is true.
          */
@@ -159,23 +173,22 @@ protected void _addSuccessorInternal(ControlFlowNode successor) {
             }
         }
 
-        private Optional<Boolean> asBooleanLiteralValue() {
-            if (getCondition() instanceof J.Literal) {
-                J.Literal literal = (J.Literal) getCondition();
+        private static @Nullable Boolean asBooleanLiteralValue(J condition) {
+            if (condition instanceof J.Literal) {
+                J.Literal literal = (J.Literal) condition;
                 if (TypeUtils.isAssignableTo(JavaType.Primitive.Boolean, literal.getType())) {
-                    Boolean value = (Boolean) literal.getValue();
-                    return Optional.ofNullable(value);
+                    return (Boolean) literal.getValue();
                 }
             }
-            return Optional.empty();
+            return null;
         }
 
         boolean isAlwaysTrue() {
-            return asBooleanLiteralValue().orElse(false);
+            return Boolean.TRUE.equals(constantValue);
         }
 
         boolean isAlwaysFalse() {
-            return asBooleanLiteralValue().map(b -> !b).orElse(false);
+            return Boolean.FALSE.equals(constantValue);
         }
 
 
@@ -188,7 +201,10 @@ Set<ControlFlowNode> getSuccessors() {
             if (isAlwaysFalse()) {
                 return singleton(falsySuccessor);
             }
-            return Stream.of(truthySuccessor, falsySuccessor).collect(toSet());
+            Set<ControlFlowNode> successors = new HashSet<>(4);
+            successors.add(truthySuccessor);
+            successors.add(falsySuccessor);
+            return successors;
         }
 
         private void verifyState() {
@@ -203,20 +219,34 @@ private void verifyState() {
             }
         }
 
+        /**
+         * The barrier guard decisions are cached for the most recently used predicate, so the predicate
+         * is expected to be a pure function of the {@link Guard} and branch. Pass the same predicate instance
+         * across traversals, like {@link org.openrewrite.analysis.dataflow.DataFlowSpec#asBarrierGuardPredicate()},
+         * to benefit from the cache.
+         */
         Set<ControlFlowNode> visit(BarrierGuardPredicate isBarrierGuard) {
             verifyState();
-            Set<ControlFlowNode> nodes = new HashSet<>(2);
             if (isAlwaysTrue()) {
-                nodes.add(truthySuccessor);
+                return singleton(truthySuccessor);
             } else if (isAlwaysFalse()) {
+                return singleton(falsySuccessor);
+            }
+            BarrierGuardDecision decision = lastBarrierGuardDecision;
+            if (decision == null || decision.predicate != isBarrierGuard) {
+                decision = new BarrierGuardDecision(
+                        isBarrierGuard,
+                        isBarrierGuard.isBarrierGuard(guard, true),
+                        isBarrierGuard.isBarrierGuard(guard, false)
+                );
+                lastBarrierGuardDecision = decision;
+            }
+            Set<ControlFlowNode> nodes = new HashSet<>(4);
+            if (!decision.truthyBarrier) {
+                nodes.add(truthySuccessor);
+            }
+            if (!decision.falsyBarrier) {
                 nodes.add(falsySuccessor);
-            } else {
-                if (!isBarrierGuard.isBarrierGuard(asGuard(), true)) {
-                    nodes.add(getTruthySuccessor());
-                }
-                if (!isBarrierGuard.isBarrierGuard(asGuard(), false)) {
-                    nodes.add(getFalsySuccessor());
-                }
             }
             return nodes;
         }
@@ -226,6 +256,13 @@ Guard asGuard() {
 
         }
 
+        @RequiredArgsConstructor
+        private static final class BarrierGuardDecision {
+            final BarrierGuardPredicate predicate;
+            final boolean truthyBarrier;
+            final boolean falsyBarrier;
+        }
+
         @Override
         String internalToDescriptiveString() {
             String truthyDescriptive = null;
@@ -270,7 +307,7 @@ public String toString() {
         private static ConditionNode create(Cursor cursor, boolean truthFirst) {
             return Guard
                     .from(cursor)
-                    .map(guard -> new ConditionNode(guard, truthFirst))
+                    .map(guard -> new ConditionNode(guard, truthFirst, asBooleanLiteralValue(cursor.getValue())))
                     .orElseThrow(() -> new ControlFlowIllegalStateException(exceptionMessageBuilder("Condition Node is not a guard!").addCursor(cursor)));
         }
     }
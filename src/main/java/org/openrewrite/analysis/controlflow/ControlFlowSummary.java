@@ -34,7 +34,10 @@
 @AllArgsConstructor(staticName = "forGraph", access = AccessLevel.PACKAGE)
 @Incubating(since = "7.25.0")
 public final class ControlFlowSummary {
+    @Getter(AccessLevel.PACKAGE)
     private final ControlFlowNode.Start start;
+
+    @Getter(AccessLevel.PACKAGE)
     private final ControlFlowNode.End end;
 
     @Getter(lazy = true)
@@ -117,6 +120,16 @@ private void recurseComputeReachableBasicBlock(ControlFlowNode visit, BarrierGua
         toVisit.forEach(n -> recurseComputeReachableBasicBlock(n, predicate, reachable));
     }
 
+    /**
+     * Computes the fixed point of a bit vector data flow problem over this graph.
+     *
+     * @see ReachingDefinitions
+     * @see LiveVariables
+     */
+    public BitVectorSolution solve(BitVectorProblem problem) {
+        return BitVectorSolver.solve(start, end, getAllNodes(), problem);
+    }
+
     int getBasicBlockCount() {
         return getBasicBlocks().size();
     }
@@ -18,6 +18,7 @@
 import lombok.Value;
 import org.jspecify.annotations.NonNull;
 
+import java.io.IOException;
 import java.util.Comparator;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -27,12 +28,12 @@
 
 final class ControlFlowSummaryDotVisualizer implements ControlFlowDotFileGenerator {
     @Override
-    public String visualizeAsDotfile(String name, boolean darkMode, ControlFlowSummary summary) {
-        StringBuilder sb = new StringBuilder("digraph ").append(name).append(" {\n");
-        sb.append("    rankdir = TB;\n");
-        sb.append("    edge [fontname=Arial];");
+    public void writeDotfile(String name, boolean darkMode, ControlFlowSummary summary, Appendable out) throws IOException {
+        out.append("digraph ").append(name).append(" {\n");
+        out.append("    rankdir = TB;\n");
+        out.append("    edge [fontname=Arial];");
         if (darkMode) {
-            sb.append("\n    graph [bgcolor=black];\n" +
+            out.append("\n    graph [bgcolor=black];\n" +
                     "    node [color=white, fontcolor=whitesmoke];\n" +
                     "    edge [fontname=Arial; color=whitesmoke];");
         }
@@ -64,7 +65,7 @@ public String visualizeAsDotfile(String name, boolean darkMode, ControlFlowSumma
             }
             final String shape = getShape(node);
             final String fontName = getFont(node);
-            sb.append("\n    ").append(i).append(" [shape=").append(shape)
+            out.append("\n    ").append(String.valueOf(i)).append(" [shape=").append(shape)
                     .append(", label=\"").append(nodeText)
                     .append("\", fontname=\"").append(fontName)
                     .append("\"];");
@@ -74,38 +75,37 @@ public String visualizeAsDotfile(String name, boolean darkMode, ControlFlowSumma
             ControlFlowNode node = toNodeText.node;
             if (node instanceof ControlFlowNode.ConditionNode) {
                 ControlFlowNode.ConditionNode cn = (ControlFlowNode.ConditionNode) node;
-                sb.append("\n    ").append(abstractToVisualNodeMapping.get(node))
-                        .append(" -> ").append(abstractToVisualNodeMapping.get(cn.getTruthySuccessor()));
+                out.append("\n    ").append(String.valueOf(abstractToVisualNodeMapping.get(node)))
+                        .append(" -> ").append(String.valueOf(abstractToVisualNodeMapping.get(cn.getTruthySuccessor())));
                 if (!cn.isAlwaysFalse()) {
-                    sb.append(" [label=\"True\", ");
+                    out.append(" [label=\"True\", ");
                     if (darkMode) {
-                        sb.append("color=\"darkgreen\" fontcolor=\"darkgreen\"];");
+                        out.append("color=\"darkgreen\" fontcolor=\"darkgreen\"];");
                     } else {
-                        sb.append("color=\"green3\" fontcolor=\"green3\"];");
+                        out.append("color=\"green3\" fontcolor=\"green3\"];");
                     }
                 } else {
-                    sb.append(" [label=\"Unreachable\", color=\"grey\" fontcolor=\"grey\" style=dashed];");
+                    out.append(" [label=\"Unreachable\", color=\"grey\" fontcolor=\"grey\" style=dashed];");
                 }
-                sb.append("\n    ").append(abstractToVisualNodeMapping.get(node))
-                        .append(" -> ").append(abstractToVisualNodeMapping.get(cn.getFalsySuccessor()));
+                out.append("\n    ").append(String.valueOf(abstractToVisualNodeMapping.get(node)))
+                        .append(" -> ").append(String.valueOf(abstractToVisualNodeMapping.get(cn.getFalsySuccessor())));
                 if (!cn.isAlwaysTrue()) {
-                    sb.append(" [label=\"False\", color=\"red\" fontcolor=\"red\"];");
+                    out.append(" [label=\"False\", color=\"red\" fontcolor=\"red\"];");
                 } else {
-                    sb.append(" [label=\"Unreachable\", color=\"grey\" fontcolor=\"grey\" style=dashed];");
+                    out.append(" [label=\"Unreachable\", color=\"grey\" fontcolor=\"grey\" style=dashed];");
                 }
             } else {
                 for (ControlFlowNode successor : node.getSuccessorsForTraversal()) {
-                    sb.append("\n    ").append(abstractToVisualNodeMapping.get(node))
-                            .append(" -> ").append(abstractToVisualNodeMapping.get(successor)).append(";");
+                    out.append("\n    ").append(String.valueOf(abstractToVisualNodeMapping.get(node)))
+                            .append(" -> ").append(String.valueOf(abstractToVisualNodeMapping.get(successor))).append(";");
                 }
             }
         }
         if (vizSrc != -1 && vizSink != -1) {
-            sb.append("\n    {rank=\"src\";").append(vizSrc).append("};\n");
-            sb.append("    {rank=\"sink\";").append(vizSink).append("};");
+            out.append("\n    {rank=\"src\";").append(String.valueOf(vizSrc)).append("};\n");
+            out.append("    {rank=\"sink\";").append(String.valueOf(vizSink)).append("};");
         }
-        sb.append('\n').append('}');
-        return sb.toString();
+        out.append('\n').append('}');
     }
 
     @Value
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.controlflow;
+
+import org.openrewrite.ExecutionContext;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * How thoroughly {@link ControlFlow#findControlFlow(ExecutionContext)} checks the structural invariants
+ * of the graphs it builds.
+ * <p>
+ * Validation traverses every node of the graph, which callers that only need reachability would otherwise
+ * never pay for. Tests should keep the default of {@link #FULL}; production scans can turn it {@link #OFF}
+ * or {@link #SAMPLED} with {@link #set(ExecutionContext, ControlFlowValidation)}.
+ */
+public enum ControlFlowValidation {
+    /**
+     * Never validate the graph.
+     */
+    OFF,
+    /**
+     * Validate the first graph built and every {@value #SAMPLE_INTERVAL}th graph after it.
+     */
+    SAMPLED,
+    /**
+     * Validate every graph.
+     */
+    FULL;
+
+    static final int SAMPLE_INTERVAL = 64;
+
+    private static final String VALIDATION_KEY = "org.openrewrite.analysis.controlflow.validation";
+    private static final String SAMPLE_COUNTER_KEY = "org.openrewrite.analysis.controlflow.validation.sampleCounter";
+
+    public static ControlFlowValidation get(ExecutionContext ctx) {
+        return ctx.getMessage(VALIDATION_KEY, FULL);
+    }
+
+    public static void set(ExecutionContext ctx, ControlFlowValidation validation) {
+        ctx.putMessage(VALIDATION_KEY, validation);
+    }
+
+    /**
+     * Graphs are sampled per execution context, so that every run samples the same graphs.
+     */
+    boolean shouldValidate(ExecutionContext ctx) {
+        switch (this) {
+            case OFF:
+                return false;
+            case SAMPLED:
+                AtomicLong counter = ctx.computeMessageIfAbsent(SAMPLE_COUNTER_KEY, __ -> new AtomicLong());
+                return counter.getAndIncrement() % SAMPLE_INTERVAL == 0;
+            default:
+                return true;
+        }
+    }
+}
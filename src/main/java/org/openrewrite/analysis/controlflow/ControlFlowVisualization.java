@@ -15,12 +15,17 @@
  */
 package org.openrewrite.analysis.controlflow;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Option;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.MethodMatcher;
+
+import java.nio.file.Paths;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
@@ -32,6 +37,35 @@ public class ControlFlowVisualization extends Recipe {
 
     boolean darkMode;
 
+    @Option(displayName = "Method pattern",
+            description = "Only visualize the control flow of methods matching this method pattern. " +
+                          "Static and instance initializer blocks are skipped when a pattern is set.",
+            example = "com.yourorg.A foo(..)",
+            required = false)
+    @Nullable
+    String methodPattern;
+
+    @Option(displayName = "Dotfile output directory",
+            description = "When dotfiles are included, write one dotfile per method to this directory " +
+                          "instead of attaching it to the method.",
+            example = "build/control-flow",
+            required = false)
+    @Nullable
+    String dotfileOutputDirectory;
+
+    public ControlFlowVisualization(boolean includeDotfile, boolean darkMode) {
+        this(includeDotfile, darkMode, null, null);
+    }
+
+    @JsonCreator
+    public ControlFlowVisualization(boolean includeDotfile, boolean darkMode,
+                                    @Nullable String methodPattern, @Nullable String dotfileOutputDirectory) {
+        this.includeDotfile = includeDotfile;
+        this.darkMode = darkMode;
+        this.methodPattern = methodPattern;
+        this.dotfileOutputDirectory = dotfileOutputDirectory;
+    }
+
     String displayName = "Control flow visualization";
 
     String description = "Visualize the control flow of a Java program.";
@@ -40,6 +74,8 @@ public class ControlFlowVisualization extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return new ControlFlowVisualizationVisitor<>(
                 includeDotfile ? ControlFlowDotFileGenerator.create() : null,
-                darkMode);
+                darkMode,
+                methodPattern == null ? null : new MethodMatcher(methodPattern, true),
+                dotfileOutputDirectory == null ? null : Paths.get(dotfileOutputDirectory));
     }
 }
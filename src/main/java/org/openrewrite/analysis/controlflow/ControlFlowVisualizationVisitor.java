@@ -20,11 +20,20 @@
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Incubating;
 import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.Statement;
+import org.openrewrite.java.tree.TypeUtils;
 import org.openrewrite.marker.SearchResult;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.function.Function;
 
@@ -41,6 +50,19 @@
 
     private final boolean darkMode;
 
+    /**
+     * When not null, only the bodies of methods matching this matcher are visualized.
+     */
+    @Nullable
+    private final MethodMatcher methodMatcher;
+
+    /**
+     * When not null, each dotfile is streamed to its own file in this directory instead of being
+     * attached to the visualized method as a search result.
+     */
+    @Nullable
+    private final Path dotfileOutputDirectory;
+
     @Override
     public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, P p) {
         J.MethodDeclaration m = super.visitMethodDeclaration(method, p);
@@ -59,6 +81,9 @@ public J.Block visitBlock(J.Block block, P p) {
 
         boolean isStaticOrInitBlock = J.Block.isStaticOrInitBlock(getCursor());
         if (isMethodDeclaration || isStaticOrInitBlock) {
+            if (methodMatcher != null && !(isMethodDeclaration && methodMatcher.matches(methodDeclaration.getMethodType()))) {
+                return b;
+            }
             return ControlFlow.startingAt(getCursor()).findControlFlow().map(controlFlow -> {
                 // maps basic block and condition nodes to the first statement in the node (the node leader)
                 Map<J, ControlFlowNode.BasicBlock> leadersToBlocks =
@@ -83,7 +108,10 @@ public J.Block visitBlock(J.Block block, P p) {
                         " EX: " + controlFlow.getExitCount();
                 if (dotFileGenerator != null) {
                     String graphName = methodDeclaration != null ? methodDeclaration.getSimpleName() : b.isStatic() ? "static block" : "init block";
-                    String dotFile = dotFileGenerator.visualizeAsDotfile(graphName, darkMode, controlFlow);
+                    String dotFile = dotfileOutputDirectory == null ?
+                            dotFileGenerator.visualizeAsDotfile(graphName, darkMode, controlFlow) :
+                            "Dotfile: " + writeDotfile(dotFileGenerator, dotfileOutputDirectory, graphName,
+                                    graphId(isMethodDeclaration ? methodDeclaration : null, block), controlFlow);
                     if (isMethodDeclaration) {
                         getCursor().dropParentUntil(J.MethodDeclaration.class::isInstance).putMessage(CONTROL_FLOW_SUMMARY_CURSOR_MESSAGE, dotFile);
                     } else {
@@ -97,6 +125,46 @@ public J.Block visitBlock(J.Block block, P p) {
         return b;
     }
 
+    /**
+     * Identifies the graph within its source file the same way every time the recipe visits it, so that a dotfile
+     * is written to the same file again rather than to a new one.
+     */
+    private String graphId(J.@Nullable MethodDeclaration methodDeclaration, J.Block block) {
+        if (methodDeclaration != null) {
+            JavaType.Method methodType = methodDeclaration.getMethodType();
+            if (methodType == null) {
+                return methodDeclaration.getSimpleName();
+            }
+            StringJoiner parameters = new StringJoiner(",", "(", ")");
+            for (JavaType parameterType : methodType.getParameterTypes()) {
+                parameters.add(TypeUtils.toString(parameterType));
+            }
+            return methodType.getDeclaringType().getFullyQualifiedName() + "#" + methodType.getName() + parameters;
+        }
+        // Initializer blocks are told apart by their position in the class body
+        J.Block classBody = getCursor().getParentTreeCursor().getValue();
+        J.ClassDeclaration classDeclaration = getCursor().firstEnclosing(J.ClassDeclaration.class);
+        String className = classDeclaration == null || classDeclaration.getType() == null ?
+                "" : classDeclaration.getType().getFullyQualifiedName();
+        return className + "#" + (block.isStatic() ? "static" : "init") + classBody.getStatements().indexOf(block);
+    }
+
+    private Path writeDotfile(ControlFlowDotFileGenerator generator, Path directory, String graphName, String graphId,
+                              ControlFlowSummary controlFlow) {
+        JavaSourceFile sourceFile = getCursor().firstEnclosingOrThrow(JavaSourceFile.class);
+        String baseName = (sourceFile.getSourcePath() + "_" + graphId).replaceAll("[^A-Za-z0-9._,#()-]", "_");
+        Path dotFile = directory.resolve(baseName + ".dot");
+        try {
+            Files.createDirectories(directory);
+            try (Writer writer = Files.newBufferedWriter(dotFile)) {
+                generator.writeDotfile(graphName, darkMode, controlFlow, writer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return dotFile;
+    }
+
     @RequiredArgsConstructor
     private static class ControlFlowMarkingVisitor<P> extends JavaIsoVisitor<P> {
         private final String label;
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.controlflow;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.tree.J;
+
+import java.util.*;
+
+/**
+ * The classic live variables analysis: for every code point, which local variables hold a value that
+ * may be read later, before being overwritten.
+ * <p>
+ * A local variable that is not live after it is assigned is a dead store.
+ */
+public final class LiveVariables {
+    private final LocalVariables variables;
+
+    @Getter
+    private final BitVectorSolution solution;
+
+    private LiveVariables(ControlFlowSummary summary) {
+        this.variables = new LocalVariables();
+        for (Cursor parameter : LocalVariables.parameters(summary)) {
+            variables.add(((J.VariableDeclarations.NamedVariable) parameter.getValue()).getSimpleName());
+        }
+        List<Cursor> codePoints = LocalVariables.codePoints(summary);
+        for (Cursor codePoint : codePoints) {
+            if (codePoint.getValue() instanceof J.VariableDeclarations.NamedVariable) {
+                variables.add(((J.VariableDeclarations.NamedVariable) codePoint.getValue()).getSimpleName());
+            }
+        }
+
+        Map<J, Integer> kills = new IdentityHashMap<>();
+        Map<J, Integer> uses = new IdentityHashMap<>();
+        for (Cursor codePoint : codePoints) {
+            String used = LocalVariables.usedVariable(codePoint);
+            if (used != null && variables.indexOf(used) >= 0) {
+                uses.put(codePoint.getValue(), variables.indexOf(used));
+                // The target of a compound assignment is read before it is written, so it is never killed
+                continue;
+            }
+            String defined = LocalVariables.definedVariable(codePoint);
+            if (defined != null && variables.indexOf(defined) >= 0 && !(codePoint.getValue() instanceof J.Unary)) {
+                kills.put(codePoint.getValue(), variables.indexOf(defined));
+            }
+        }
+
+        this.solution = summary.solve(new BitVectorProblem() {
+            @Override
+            public Direction getDirection() {
+                return Direction.BACKWARD;
+            }
+
+            @Override
+            public Meet getMeet() {
+                return Meet.UNION;
+            }
+
+            @Override
+            public int getDomainSize() {
+                return variables.size();
+            }
+
+            @Override
+            public void initializeBoundary(BitSet boundary) {
+                // No local variable is live once the method returns
+            }
+
+            @Override
+            public void transfer(Cursor codePoint, BitSet facts) {
+                J value = codePoint.getValue();
+                Integer killed = kills.get(value);
+                if (killed != null) {
+                    facts.clear(killed);
+                }
+                Integer used = uses.get(value);
+                if (used != null) {
+                    facts.set(used);
+                }
+            }
+        });
+    }
+
+    public static LiveVariables analyze(ControlFlowSummary summary) {
+        return new LiveVariables(summary);
+    }
+
+    /**
+     * @return The names of the local variables that are live immediately before the given code point.
+     */
+    public Set<String> getLiveBefore(Cursor codePoint) {
+        return toNames(solution.factsAt(codePoint.getValue(), true));
+    }
+
+    /**
+     * @return The names of the local variables that are live immediately after the given code point.
+     */
+    public Set<String> getLiveAfter(Cursor codePoint) {
+        return toNames(solution.factsAt(codePoint.getValue(), false));
+    }
+
+    public boolean isLiveAfter(Cursor codePoint, String variableName) {
+        int variable = variables.indexOf(variableName);
+        if (variable < 0) {
+            return false;
+        }
+        BitSet facts = solution.factsAt(codePoint.getValue(), false);
+        return facts != null && facts.get(variable);
+    }
+
+    private Set<String> toNames(@Nullable BitSet facts) {
+        if (facts == null) {
+            return Collections.emptySet();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (int v = facts.nextSetBit(0); v >= 0; v = facts.nextSetBit(v + 1)) {
+            names.add(variables.nameOf(v));
+        }
+        return names;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.controlflow;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.Statement;
+
+import java.util.*;
+
+/**
+ * Classifies the code points of a control flow graph as definitions and uses of local variables,
+ * and assigns each local variable of the graph a dense index.
+ * <p>
+ * Like {@link org.openrewrite.analysis.dataflow.analysis.ForwardFlow}, local variables are identified by their simple name.
+ */
+final class LocalVariables {
+    private final Map<String, Integer> index = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    int size() {
+        return names.size();
+    }
+
+    String nameOf(int variable) {
+        return names.get(variable);
+    }
+
+    int indexOf(String name) {
+        Integer i = index.get(name);
+        return i == null ? -1 : i;
+    }
+
+    int add(String name) {
+        Integer existing = index.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        names.add(name);
+        index.put(name, names.size() - 1);
+        return names.size() - 1;
+    }
+
+    /**
+     * @return All the code points of the graph, in graph order.
+     */
+    static List<Cursor> codePoints(ControlFlowSummary summary) {
+        List<Cursor> codePoints = new ArrayList<>();
+        for (ControlFlowNode node : summary.getAllNodes()) {
+            if (node instanceof ControlFlowNode.BasicBlock) {
+                codePoints.addAll(((ControlFlowNode.BasicBlock) node).getNodeCursors());
+            }
+        }
+        return codePoints;
+    }
+
+    /**
+     * Cursors to the parameters of the method or lambda whose body the graph was computed for.
+     * These are the definitions that hold on entry to the graph.
+     */
+    static List<Cursor> parameters(ControlFlowSummary summary) {
+        Cursor body = entryCursor(summary);
+        if (body == null) {
+            return Collections.emptyList();
+        }
+        Cursor callable = body.getParentTreeCursor();
+        List<Cursor> parameters = new ArrayList<>();
+        if (callable.getValue() instanceof J.MethodDeclaration) {
+            for (Statement parameter : ((J.MethodDeclaration) callable.getValue()).getParameters()) {
+                addParameter(new Cursor(callable, parameter), parameters);
+            }
+        } else if (callable.getValue() instanceof J.Lambda) {
+            J.Lambda.Parameters lambdaParameters = ((J.Lambda) callable.getValue()).getParameters();
+            Cursor parametersCursor = new Cursor(callable, lambdaParameters);
+            for (J parameter : lambdaParameters.getParameters()) {
+                addParameter(new Cursor(parametersCursor, parameter), parameters);
+            }
+        }
+        return parameters;
+    }
+
+    private static void addParameter(Cursor declarations, List<Cursor> parameters) {
+        if (declarations.getValue() instanceof J.VariableDeclarations) {
+            for (J.VariableDeclarations.NamedVariable variable : ((J.VariableDeclarations) declarations.getValue()).getVariables()) {
+                parameters.add(new Cursor(declarations, variable));
+            }
+        }
+    }
+
+    private static @Nullable Cursor entryCursor(ControlFlowSummary summary) {
+        for (ControlFlowNode next : summary.getStart().getSuccessorsForTraversal()) {
+            if (next instanceof ControlFlowNode.BasicBlock && ((ControlFlowNode.BasicBlock) next).hasLeader()) {
+                return ((ControlFlowNode.BasicBlock) next).getNodeCursors().get(0);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The name of the local variable a declaration or assignment assigns to, or null
+     * if this code point does not define a local variable.
+     */
+    static @Nullable String definedVariable(Cursor codePoint) {
+        Object value = codePoint.getValue();
+        if (value instanceof J.VariableDeclarations.NamedVariable) {
+            J.VariableDeclarations.NamedVariable variable = (J.VariableDeclarations.NamedVariable) value;
+            if (!isLocal(variable.getVariableType())) {
+                return null;
+            }
+            // A declaration without an initializer, like `int i;`, only defines the variable when
+            // something other than a block provides the value, like an enhanced for loop or a lambda.
+            if (variable.getInitializer() != null ||
+                !(codePoint.getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.Block)) {
+                return variable.getSimpleName();
+            }
+            return null;
+        }
+        if (value instanceof J.Identifier) {
+            J.Identifier identifier = (J.Identifier) value;
+            Object parent = codePoint.getParentTreeCursor().getValue();
+            if (parent instanceof J.Assignment && ((J.Assignment) parent).getVariable() == identifier ||
+                parent instanceof J.AssignmentOperation && ((J.AssignmentOperation) parent).getVariable() == identifier) {
+                return isLocal(identifier.getFieldType()) ? identifier.getSimpleName() : null;
+            }
+            return null;
+        }
+        if (value instanceof J.Unary) {
+            J.Unary unary = (J.Unary) value;
+            if (isIncrementOrDecrement(unary.getOperator()) && unary.getExpression().unwrap() instanceof J.Identifier) {
+                J.Identifier identifier = (J.Identifier) unary.getExpression().unwrap();
+                return isLocal(identifier.getFieldType()) ? identifier.getSimpleName() : null;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isIncrementOrDecrement(J.Unary.Type operator) {
+        switch (operator) {
+            case PreIncrement:
+            case PreDecrement:
+            case PostIncrement:
+            case PostDecrement:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return The name of the local variable whose value this code point reads, or null
+     * if this code point does not read a local variable.
+     * The target of a compound assignment, like {@code i += 1}, is both read and written.
+     */
+    static @Nullable String usedVariable(Cursor codePoint) {
+        if (!(codePoint.getValue() instanceof J.Identifier)) {
+            return null;
+        }
+        J.Identifier identifier = codePoint.getValue();
+        if (!isLocal(identifier.getFieldType())) {
+            return null;
+        }
+        Object parent = codePoint.getParentTreeCursor().getValue();
+        if (parent instanceof J.VariableDeclarations.NamedVariable && ((J.VariableDeclarations.NamedVariable) parent).getName() == identifier ||
+            parent instanceof J.Assignment && ((J.Assignment) parent).getVariable() == identifier ||
+            parent instanceof J.FieldAccess && ((J.FieldAccess) parent).getName() == identifier) {
+            return null;
+        }
+        return identifier.getSimpleName();
+    }
+
+    /**
+     * Variables without type attribution are assumed to be local, callers are expected to restrict
+     * these to the names declared within the graph.
+     */
+    private static boolean isLocal(JavaType.@Nullable Variable variable) {
+        return variable == null || variable.getOwner() instanceof JavaType.Method;
+    }
+}
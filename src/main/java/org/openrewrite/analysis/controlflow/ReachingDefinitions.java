@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.controlflow;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.tree.J;
+
+import java.util.*;
+
+/**
+ * The classic reaching definitions analysis: for every code point, which assignments to local variables
+ * may have produced the value a variable holds at that point.
+ * <p>
+ * Definitions are local variable declarations with an initializer, assignments, compound assignments,
+ * increments and decrements. Parameters of the analyzed method or lambda are definitions that hold on entry.
+ */
+public final class ReachingDefinitions {
+    private final List<Cursor> definitions;
+    private final int[] variableOfDefinition;
+    private final LocalVariables variables;
+
+    @Getter
+    private final BitVectorSolution solution;
+
+    private ReachingDefinitions(ControlFlowSummary summary) {
+        this.definitions = new ArrayList<>();
+        this.variables = new LocalVariables();
+        List<Integer> variableOf = new ArrayList<>();
+
+        List<Cursor> parameters = LocalVariables.parameters(summary);
+        for (Cursor parameter : parameters) {
+            definitions.add(parameter);
+            variableOf.add(variables.add(((J.VariableDeclarations.NamedVariable) parameter.getValue()).getSimpleName()));
+        }
+        Map<J, Integer> definitionIndex = new IdentityHashMap<>();
+        for (Cursor codePoint : LocalVariables.codePoints(summary)) {
+            String name = LocalVariables.definedVariable(codePoint);
+            if (name != null) {
+                definitionIndex.put(codePoint.getValue(), definitions.size());
+                definitions.add(codePoint);
+                variableOf.add(variables.add(name));
+            }
+        }
+
+        this.variableOfDefinition = new int[variableOf.size()];
+        BitSet[] definitionsOfVariable = new BitSet[variables.size()];
+        for (int v = 0; v < definitionsOfVariable.length; v++) {
+            definitionsOfVariable[v] = new BitSet(definitions.size());
+        }
+        for (int d = 0; d < variableOfDefinition.length; d++) {
+            variableOfDefinition[d] = variableOf.get(d);
+            definitionsOfVariable[variableOfDefinition[d]].set(d);
+        }
+
+        int parameterCount = parameters.size();
+        this.solution = summary.solve(new BitVectorProblem() {
+            @Override
+            public Direction getDirection() {
+                return Direction.FORWARD;
+            }
+
+            @Override
+            public Meet getMeet() {
+                return Meet.UNION;
+            }
+
+            @Override
+            public int getDomainSize() {
+                return definitions.size();
+            }
+
+            @Override
+            public void initializeBoundary(BitSet boundary) {
+                boundary.set(0, parameterCount);
+            }
+
+            @Override
+            public void transfer(Cursor codePoint, BitSet facts) {
+                Integer definition = definitionIndex.get(codePoint.<J>getValue());
+                if (definition != null) {
+                    facts.andNot(definitionsOfVariable[variableOfDefinition[definition]]);
+                    facts.set(definition);
+                }
+            }
+        });
+    }
+
+    public static ReachingDefinitions analyze(ControlFlowSummary summary) {
+        return new ReachingDefinitions(summary);
+    }
+
+    /**
+     * @return Every definition site in the graph, parameters first. The position of a definition in this list
+     * is the bit that represents it in the {@link #getSolution() solution}.
+     */
+    public List<Cursor> getDefinitions() {
+        return Collections.unmodifiableList(definitions);
+    }
+
+    /**
+     * @return The definitions of any local variable that may reach the given code point.
+     */
+    public Set<Cursor> getReachingDefinitions(Cursor codePoint) {
+        return toDefinitions(solution.factsAt(codePoint.getValue(), true), -1);
+    }
+
+    /**
+     * @return The definitions of the named local variable that may reach the given code point.
+     */
+    public Set<Cursor> getReachingDefinitions(Cursor codePoint, String variableName) {
+        int variable = variables.indexOf(variableName);
+        if (variable < 0) {
+            return Collections.emptySet();
+        }
+        return toDefinitions(solution.factsAt(codePoint.getValue(), true), variable);
+    }
+
+    private Set<Cursor> toDefinitions(@Nullable BitSet facts, int variable) {
+        if (facts == null) {
+            return Collections.emptySet();
+        }
+        Set<Cursor> reaching = new LinkedHashSet<>();
+        for (int d = facts.nextSetBit(0); d >= 0; d = facts.nextSetBit(d + 1)) {
+            if (variable < 0 || variableOfDefinition[d] == variable) {
+                reaching.add(definitions.get(d));
+            }
+        }
+        return reaching;
+    }
+}
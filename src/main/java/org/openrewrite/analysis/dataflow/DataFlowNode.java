@@ -16,12 +16,13 @@
 package org.openrewrite.analysis.dataflow;
 
 import fj.data.Option;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
+import fj.data.Validation;
 import lombok.Getter;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
 import org.openrewrite.analysis.trait.expr.Expr;
 import org.openrewrite.analysis.trait.expr.ExprParent;
+import org.openrewrite.analysis.trait.util.TraitErrors;
 import org.openrewrite.analysis.trait.variable.Parameter;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
@@ -30,52 +31,95 @@
 
 import static java.util.Objects.requireNonNull;
 
-@AllArgsConstructor(access = AccessLevel.PACKAGE)
 public abstract class DataFlowNode {
     @Getter
     final Cursor cursor;
 
+    /**
+     * Assigned once, by the {@link DataFlowNodes} that interns this node.
+     */
+    int id = -1;
+
+    DataFlowNode(Cursor cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * @return The id of this node within the {@link DataFlowNodes} of the analysis that interned it, which is unique
+     * among the nodes of that analysis and smaller than its {@link DataFlowNodes#size() size}, or {@code -1} if no
+     * analysis interned this node.
+     */
+    public int getId() {
+        return id;
+    }
+
     public abstract Option<Expr> asExpr();
 
     public <E extends Expr> Option<E> asExpr(Class<E> clazz) {
-        return asExpr().filter(clazz::isInstance).map(clazz::cast);
+        return Option.fromNull(asExprOrNull(clazz));
     }
 
     public <E extends ExprParent> Option<E> asExprParent(Class<E> clazz) {
-        return asExpr().filter(clazz::isInstance).map(clazz::cast);
+        return Option.fromNull(asExprParentOrNull(clazz));
     }
 
     public abstract Option<Parameter> asParameter();
 
+    /**
+     * Like {@link #asExpr()}, but without wrapping the expression in an {@link Option}.
+     */
+    public abstract @Nullable Expr asExprOrNull();
+
+    public <E extends Expr> @Nullable E asExprOrNull(Class<E> clazz) {
+        Expr expr = asExprOrNull();
+        return clazz.isInstance(expr) ? clazz.cast(expr) : null;
+    }
+
+    public <E extends ExprParent> @Nullable E asExprParentOrNull(Class<E> clazz) {
+        Expr expr = asExprOrNull();
+        return clazz.isInstance(expr) ? clazz.cast(expr) : null;
+    }
+
+    /**
+     * Like {@link #asParameter()}, but without wrapping the parameter in an {@link Option}.
+     */
+    public abstract @Nullable Parameter asParameterOrNull();
+
     public boolean isParameter() {
-        return asParameter().isSome();
+        return asParameterOrNull() != null;
     }
 
     public boolean isExpr() {
-        return asExpr().isSome();
+        return asExprOrNull() != null;
     }
 
     abstract <T> T map(Function<Expr, T> whenExpression, Function<Parameter, T> whenParameter);
 
     public static Option<DataFlowNode> of(Cursor cursor) {
+        return Option.fromNull(ofOrNull(cursor));
+    }
+
+    /**
+     * Like {@link #of(Cursor)}, but {@code null} when the cursor is not a data flow node.
+     */
+    public static @Nullable DataFlowNode ofOrNull(Cursor cursor) {
         if (cursor.getValue() instanceof Expression) {
-            return Expr
-                    .viewOf(cursor)
-                    .toOption()
-                    .map(expr -> new ExpressionDataFlowNode(cursor, expr));
+            Validation<TraitErrors, Expr> expr = Expr.viewOf(cursor);
+            return expr.isSuccess() ? new ExpressionDataFlowNode(cursor, expr.success()) : null;
         }
         if (cursor.getValue() instanceof J.VariableDeclarations.NamedVariable) {
-            return Parameter.viewOf(cursor).map(parameter -> (DataFlowNode) new ParameterDataFlowNode(cursor, parameter)).toOption();
+            Validation<TraitErrors, Parameter> parameter = Parameter.viewOf(cursor);
+            return parameter.isSuccess() ? new ParameterDataFlowNode(cursor, parameter.success()) : null;
         }
-        return Option.none();
+        return null;
     }
 
     public static DataFlowNode ofOrThrow(Cursor cursor, String message) {
-        Option<DataFlowNode> maybeNode = of(cursor);
-        if (maybeNode.isNone()) {
+        DataFlowNode node = ofOrNull(cursor);
+        if (node == null) {
             throw new RuntimeException(message);
         }
-        return maybeNode.some();
+        return node;
     }
 
     /**
@@ -85,11 +129,11 @@ public static DataFlowNode ofOrThrow(Cursor cursor, String message) {
      * the message is only constructed on the never-taken failure path.
      */
     public static DataFlowNode ofOrThrow(Cursor cursor) {
-        Option<DataFlowNode> maybeNode = of(cursor);
-        if (maybeNode.isNone()) {
+        DataFlowNode node = ofOrNull(cursor);
+        if (node == null) {
             throw new RuntimeException("Unable to create DataFlowNode for " + cursor);
         }
-        return maybeNode.some();
+        return node;
     }
 }
 
@@ -111,6 +155,16 @@ public Option<Parameter> asParameter() {
         return Option.none();
     }
 
+    @Override
+    public Expr asExprOrNull() {
+        return expression;
+    }
+
+    @Override
+    public @Nullable Parameter asParameterOrNull() {
+        return null;
+    }
+
     @Override
     <T> T map(Function<Expr, T> whenExpression, Function<Parameter, T> whenParameter) {
         requireNonNull(whenExpression, "whenExpression");
@@ -137,6 +191,16 @@ public Option<Parameter> asParameter() {
         return Option.some(parameter);
     }
 
+    @Override
+    public @Nullable Expr asExprOrNull() {
+        return null;
+    }
+
+    @Override
+    public Parameter asParameterOrNull() {
+        return parameter;
+    }
+
     @Override
     <T> T map(Function<Expr, T> whenExpression, Function<Parameter, T> whenParameter) {
         requireNonNull(whenExpression, "whenExpression");
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.dataflow;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The data flow nodes of one analysis, one per tree, each numbered with a small {@link DataFlowNode#getId() id} in
+ * the order they were first seen, so that the analysis can keep its per node state in arrays and bit sets.
+ * <p>
+ * Not thread safe: an analysis that runs concurrently needs one instance per thread.
+ */
+public final class DataFlowNodes {
+    private static final Object NOT_A_NODE = new Object();
+
+    private final Map<Object, Object> nodesByTree = new IdentityHashMap<>();
+    private final List<DataFlowNode> nodes = new ArrayList<>();
+
+    /**
+     * @return The node of the tree the cursor points at, the same instance for every cursor that points at the same
+     * tree, or {@code null} if the tree is not a data flow node.
+     */
+    public @Nullable DataFlowNode of(Cursor cursor) {
+        Object node = nodesByTree.get(cursor.getValue());
+        if (node == null) {
+            DataFlowNode created = DataFlowNode.ofOrNull(cursor);
+            nodesByTree.put(cursor.getValue(), created == null ? NOT_A_NODE : add(created));
+            return created;
+        }
+        return node == NOT_A_NODE ? null : (DataFlowNode) node;
+    }
+
+    /**
+     * @return The node of this analysis for the same tree as the given node, which is the given node itself unless
+     * another node of the same tree was seen first, or the given node belongs to another analysis.
+     */
+    public DataFlowNode intern(DataFlowNode node) {
+        if (node.id >= 0 && node.id < nodes.size() && nodes.get(node.id) == node) {
+            return node;
+        }
+        Object existing = nodesByTree.get(node.getCursor().getValue());
+        if (existing instanceof DataFlowNode) {
+            return (DataFlowNode) existing;
+        }
+        DataFlowNode interned = node.id < 0 ? node : DataFlowNode.ofOrThrow(node.getCursor());
+        nodesByTree.put(node.getCursor().getValue(), add(interned));
+        return interned;
+    }
+
+    /**
+     * @return The node of the tree, if one was already seen by this analysis.
+     */
+    public @Nullable DataFlowNode find(Object tree) {
+        Object node = nodesByTree.get(tree);
+        return node instanceof DataFlowNode ? (DataFlowNode) node : null;
+    }
+
+    public DataFlowNode get(int id) {
+        return nodes.get(id);
+    }
+
+    /**
+     * @return The number of nodes, which is one more than the largest id.
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    private DataFlowNode add(DataFlowNode node) {
+        node.id = nodes.size();
+        nodes.add(node);
+        return node;
+    }
+}
@@ -16,12 +16,15 @@
 package org.openrewrite.analysis.dataflow;
 
 import org.openrewrite.Incubating;
+import org.openrewrite.analysis.controlflow.BarrierGuardPredicate;
 import org.openrewrite.analysis.controlflow.Guard;
 
 import java.util.List;
 
 @Incubating(since = "7.24.0")
 public abstract class DataFlowSpec {
+    private final BarrierGuardPredicate barrierGuardPredicate = this::isBarrierGuard;
+
     /**
      * The following is always true: {@code  source == cursor.getValue()}.
      *
@@ -72,6 +75,14 @@ public boolean isBarrierGuard(Guard guard, boolean branch) {
         return false;
     }
 
+    /**
+     * {@link #isBarrierGuard(Guard, boolean)} as a predicate whose identity is stable for the lifetime of this spec,
+     * so that control flow condition nodes can cache their barrier guard decisions across analyses.
+     */
+    public final BarrierGuardPredicate asBarrierGuardPredicate() {
+        return barrierGuardPredicate;
+    }
+
     /**
      * The higher-order ("lambda call") flow models that apply at the given call node. Used by the
      * flow engine to route data into a lambda argument's parameter or out of its return value.
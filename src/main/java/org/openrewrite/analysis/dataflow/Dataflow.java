@@ -19,6 +19,7 @@
 import lombok.AllArgsConstructor;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
 import org.openrewrite.Incubating;
 import org.openrewrite.analysis.controlflow.ControlFlow;
 import org.openrewrite.analysis.dataflow.analysis.FlowGraph;
@@ -38,14 +39,23 @@ public class Dataflow {
     private final DataFlowNode n;
 
     public Option<SinkFlowSummary> findSinks(DataFlowSpec spec) {
+        return findSinks(spec, null);
+    }
+
+    /**
+     * Like {@link #findSinks(DataFlowSpec)}, but honoring the analysis settings of the execution context,
+     * like the {@link org.openrewrite.analysis.controlflow.ControlFlowValidation}.
+     */
+    public Option<SinkFlowSummary> findSinks(DataFlowSpec spec, @Nullable ExecutionContext ctx) {
         if (n == null) {
             return Option.none();
         }
         if (!spec.isSource(n)) {
             return Option.none();
         }
-        return ControlFlow.startingAt(n.getCursor()).findControlFlow().bind(summary -> {
-            Set<Expression> reachable = summary.computeReachableExpressions(spec::isBarrierGuard);
+        ControlFlow controlFlow = ControlFlow.startingAt(n.getCursor());
+        return (ctx == null ? controlFlow.findControlFlow() : controlFlow.findControlFlow(ctx)).bind(summary -> {
+            Set<Expression> reachable = summary.computeReachableExpressions(spec.asBarrierGuardPredicate());
 
             FlowGraph flow = ForwardFlow.findAllFlows(n, spec, FlowGraph.Factory.defaultFactory());
             SinkFlowSummary sinkFlowSummary = SinkFlowSummary.create(flow, spec, reachable);
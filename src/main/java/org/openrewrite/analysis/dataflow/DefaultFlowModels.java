@@ -19,6 +19,7 @@
 import lombok.NoArgsConstructor;
 import org.openrewrite.Incubating;
 import org.openrewrite.analysis.trait.expr.BinaryExpr;
+import org.openrewrite.analysis.trait.expr.Expr;
 import org.openrewrite.java.tree.J;
 
 @Incubating(since = "7.24.2")
@@ -55,11 +56,11 @@ private static boolean isStringAddTaintStep(
                 DataFlowNode srcNode,
                 DataFlowNode sinkNode
         ) {
-            return sinkNode
-                    .asExpr(BinaryExpr.class)
-                    .bind(srcNode.asExpr(), binary -> src -> J.Binary.Type.Addition == binary.getOperator() &&
-                                    binary.getLeft().equals(src) || binary.getRight().equals(src))
-                    .orSome(false);
+            BinaryExpr binary = sinkNode.asExprOrNull(BinaryExpr.class);
+            Expr src = srcNode.asExprOrNull();
+            return binary != null && src != null &&
+                   (J.Binary.Type.Addition == binary.getOperator() &&
+                    binary.getLeft().equals(src) || binary.getRight().equals(src));
         }
     }
 }
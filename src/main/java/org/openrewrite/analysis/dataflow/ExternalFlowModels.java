@@ -175,14 +175,19 @@ private AdditionalFlowStepPredicate forFlowFromArgumentIndexToReturn(
             if (argumentIndex == -1) {
                 // Argument[-1] is the 'select' or 'qualifier' of a method call
                 return (srcNode, sinkNode) ->
-                        sinkNode.asExprParent(Call.class).map(call -> call.matches(callMatcher)).orSome(false) &&
+                        isMatchingCall(sinkNode, callMatcher) &&
                                 callMatcher.advanced().isSelect(srcNode.getCursor());
             }
             return (srcNode, sinkNode) ->
-                    sinkNode.asExprParent(Call.class).map(call -> call.matches(callMatcher)).orSome(false) &&
+                    isMatchingCall(sinkNode, callMatcher) &&
                             callMatcher.advanced().isParameter(srcNode.getCursor(), argumentIndex);
         }
 
+        private static boolean isMatchingCall(DataFlowNode node, InvocationMatcher callMatcher) {
+            Call call = node.asExprParentOrNull(Call.class);
+            return call != null && call.matches(callMatcher);
+        }
+
         /**
          * Return the 'optimized' {@link AdditionalFlowStepPredicate} for the {@link MethodMatcher}.
          */
@@ -197,7 +197,10 @@ private SinkNodePredicate sinkNodePredicateForReturnValue(
                 Collection<? extends GenericExternalModel> methodMatchers
         ) {
             InvocationMatcher invocationMatcher = GenericExternalModel.indexedMatcher(methodMatchers);
-            return sinkNode -> sinkNode.asExprParent(Call.class).map(call -> call.matches(invocationMatcher)).orSome(false);
+            return sinkNode -> {
+                Call call = sinkNode.asExprParentOrNull(Call.class);
+                return call != null && call.matches(invocationMatcher);
+            };
         }
 
         /**
@@ -18,6 +18,7 @@
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
 import org.openrewrite.Incubating;
 import org.openrewrite.Tree;
 import org.openrewrite.analysis.dataflow.analysis.SinkFlowSummary;
@@ -77,7 +78,7 @@ public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations
 
     @Override
     public Expression visitExpression(Expression expression, P p) {
-        Dataflow.startingAt(getCursor()).findSinks(spec).forEach(flow -> {
+        Dataflow.startingAt(getCursor()).findSinks(spec, p instanceof ExecutionContext ? (ExecutionContext) p : null).forEach(flow -> {
             if (flow.isNotEmpty()) {
                 List<SinkFlowSummary> flowGraphs = getCursor().getNearestMessage(FLOW_GRAPHS);
                 assert flowGraphs != null;
@@ -89,7 +90,7 @@ public Expression visitExpression(Expression expression, P p) {
 
     @Override
     public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, P p) {
-        Dataflow.startingAt(getCursor()).findSinks(spec).forEach(flow -> {
+        Dataflow.startingAt(getCursor()).findSinks(spec, p instanceof ExecutionContext ? (ExecutionContext) p : null).forEach(flow -> {
             if (flow.isNotEmpty()) {
                 List<SinkFlowSummary> flowGraphs = getCursor().getNearestMessage(FLOW_GRAPHS);
                 assert flowGraphs != null;
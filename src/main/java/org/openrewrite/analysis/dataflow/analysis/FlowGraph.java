@@ -17,8 +17,11 @@
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
 import org.openrewrite.Incubating;
 import org.openrewrite.analysis.dataflow.DataFlowNode;
+import org.openrewrite.analysis.dataflow.DataFlowNodes;
 import org.openrewrite.java.tree.J;
 
 import javax.annotation.CheckReturnValue;
@@ -83,14 +86,41 @@ public void removeEdge(FlowGraph edge) {
         edges.remove(edge.getNode().getCursor().<J>getValue(), edge);
     }
 
+    FlowGraph.Factory getFactory() {
+        return factory;
+    }
+
     public interface Factory {
         FlowGraph create(DataFlowNode node);
 
+        /**
+         * The node the analysis that creates flow graphs with this factory should use for the tree the cursor points
+         * at. Factories that intern nodes return the same node for every cursor that points at the same tree.
+         */
+        default @Nullable DataFlowNode node(Cursor cursor) {
+            return DataFlowNode.ofOrNull(cursor);
+        }
+
+        default DataFlowNode nodeOrThrow(Cursor cursor) {
+            DataFlowNode node = node(cursor);
+            if (node == null) {
+                throw new RuntimeException("Unable to create DataFlowNode for " + cursor);
+            }
+            return node;
+        }
+
         static Factory defaultFactory() {
             return new Factory() {
+                private final DataFlowNodes nodes = new DataFlowNodes();
+
                 @Override
                 public FlowGraph create(DataFlowNode node) {
-                    return new FlowGraph(this, node);
+                    return new FlowGraph(this, nodes.intern(node));
+                }
+
+                @Override
+                public @Nullable DataFlowNode node(Cursor cursor) {
+                    return nodes.of(cursor);
                 }
             };
         }
@@ -15,7 +15,6 @@
  */
 package org.openrewrite.analysis.dataflow.analysis;
 
-import fj.data.Option;
 import lombok.AllArgsConstructor;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
@@ -28,6 +27,7 @@
 import org.openrewrite.analysis.dataflow.internal.LambdaReturns;
 import org.openrewrite.analysis.trait.expr.Call;
 import org.openrewrite.analysis.trait.expr.VarAccess;
+import org.openrewrite.analysis.trait.variable.Parameter;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.tree.Expression;
@@ -234,7 +234,7 @@ public FlowGraph addForIdentifierVisit(String identifier, Cursor cursor) {
             }
             Iterator<FlowGraph> iterator = get(identifier).iterator();
             FlowGraph flow = iterator.next();
-            DataFlowNode flowNode = DataFlowNode.ofOrThrow(cursor);
+            DataFlowNode flowNode = flow.getFactory().nodeOrThrow(cursor);
             // Create a FlowGraph for the current identifier being visited
             FlowGraph newFlowGraph = flow.addEdge(flowNode);
             while (iterator.hasNext()) {
@@ -305,7 +305,8 @@ public J.Identifier visitIdentifier(J.Identifier identifier, Integer integer) {
         @Override
         public J visitIdentifier(J.Identifier ident, Integer p) {
             // The identifier must be a variable access to be used in a flow
-            if (VarAccess.viewOf(getCursor()).map(va -> !va.isRValue()).orSuccess(true)) {
+            VarAccess varAccess = VarAccess.viewOfOrNull(getCursor());
+            if (varAccess == null || !varAccess.isRValue()) {
                 return ident;
             }
             // If the identifier is a field access then it is not local flow
@@ -416,11 +417,12 @@ private static VariableNameToFlowGraph computeVariableAssignment(Cursor startCur
             // Must avoid inspecting the 'current' node to compute the variable assignment.
             // This is because we perform filtering here, and filtered types may be valid 'source' types.
             ancestorCursor = cursorPath.next();
-            if (currentFlow.getNode().asParameter().isSome()) {
+            Parameter parameter = currentFlow.getNode().asParameterOrNull();
+            if (parameter != null) {
                 // If currentFlow is a parameter, then the name of the parameter is the only flow.
                 // The cursor path will contain no additional variable names where flow can occur.
                 IdentifierToFlows identifierToFlows = new IdentifierToFlows();
-                identifierToFlows.put(currentFlow.getNode().asParameter().some().getName(), currentFlow);
+                identifierToFlows.put(parameter.getName(), currentFlow);
                 // If the current flow is a parameter, then we can't have any additional flows.
                 return new VariableNameToFlowGraph(identifierToFlows, currentFlow.getNode().getCursor(), cursorPath);
             }
@@ -431,10 +433,9 @@ private static VariableNameToFlowGraph computeVariableAssignment(Cursor startCur
             ancestorCursor = cursorPath.next();
             Object ancestor = ancestorCursor.getValue();
 
-            Option<DataFlowNode> maybeAncestorNode = DataFlowNode.of(ancestorCursor);
-            if (maybeAncestorNode.isSome()) {
-                DataFlowNode ancestorNode = maybeAncestorNode.some();
-                if (ancestorNode.asParameter().isSome()) {
+            DataFlowNode ancestorNode = nextFlowGraph.getFactory().node(ancestorCursor);
+            if (ancestorNode != null) {
+                if (ancestorNode.isParameter()) {
                     continue;
                 }
                 // Offer the cursor of the current flow graph, and a next possible expression to
@@ -455,12 +456,12 @@ private static VariableNameToFlowGraph computeVariableAssignment(Cursor startCur
                     if (methodInvocation.getSelect() != null && methodInvocation.getArguments().contains(previousCursor.getValue())) {
                         Cursor selectCursor = new Cursor(parentCursor, methodInvocation.getSelect());
                         // Select may not be a data flow node if it's a static access
-                        Option<DataFlowNode> selectNode = DataFlowNode.of(selectCursor);
-                        if (selectNode.isSome() && spec.isFlowStep(
-                                DataFlowNode.ofOrThrow(previousCursor),
-                                selectNode.some()
+                        DataFlowNode selectNode = nextFlowGraph.getFactory().node(selectCursor);
+                        if (selectNode != null && spec.isFlowStep(
+                                nextFlowGraph.getNode(),
+                                selectNode
                         )) {
-                            nextFlowGraph = nextFlowGraph.addEdge(selectNode.some());
+                            nextFlowGraph = nextFlowGraph.addEdge(selectNode);
                             Expression unwrappedSelect = methodInvocation.getSelect().unwrap();
                             VariableNameToFlowGraph variableNameToFlowGraph =
                                     computeVariableAssignment(selectCursor, nextFlowGraph, spec);
@@ -483,10 +484,10 @@ private static VariableNameToFlowGraph computeVariableAssignment(Cursor startCur
                             }
 
                             Cursor argumentCursor = new Cursor(parentCursor, expr);
-                            DataFlowNode argumentNode = DataFlowNode.ofOrThrow(argumentCursor);
+                            DataFlowNode argumentNode = nextFlowGraph.getFactory().nodeOrThrow(argumentCursor);
 
                             if (spec.isFlowStep(
-                                    DataFlowNode.ofOrThrow(previousCursor),
+                                    nextFlowGraph.getNode(),
                                     argumentNode
                             )) {
                                 nextFlowGraph = nextFlowGraph.addEdge(argumentNode);
@@ -522,10 +523,10 @@ private static VariableNameToFlowGraph computeVariableAssignment(Cursor startCur
                             }
 
                             Cursor argumentCursor = new Cursor(parentCursor, expr);
-                            DataFlowNode argumentNode = DataFlowNode.ofOrThrow(argumentCursor);
+                            DataFlowNode argumentNode = nextFlowGraph.getFactory().nodeOrThrow(argumentCursor);
 
                             if (spec.isFlowStep(
-                                    DataFlowNode.ofOrThrow(previousCursor),
+                                    nextFlowGraph.getNode(),
                                     argumentNode
                             )) {
                                 nextFlowGraph = nextFlowGraph.addEdge(argumentNode);
@@ -543,7 +544,7 @@ private static VariableNameToFlowGraph computeVariableAssignment(Cursor startCur
                     }
                 }
                 if (spec.isFlowStep(
-                        DataFlowNode.ofOrThrow(previousCursor),
+                        nextFlowGraph.getNode(),
                         ancestorNode
                 )) {
                     nextFlowGraph = nextFlowGraph.addEdge(ancestorNode);
@@ -668,7 +669,7 @@ private static void tryOutOfCallbackFlow(FlowGraph currentFlow, Cursor callCurso
                 if (!callMatches(callCursor, model.getMatcher())) {
                     continue;
                 }
-                DataFlowNode target = resolveCallbackOutput(callCursor, select, arguments, model.getOther());
+                DataFlowNode target = resolveCallbackOutput(currentFlow.getFactory(), callCursor, select, arguments, model.getOther());
                 if (target == null) {
                     continue;
                 }
@@ -691,6 +692,7 @@ private static void tryOutOfCallbackFlow(FlowGraph currentFlow, Cursor callCurso
     }
 
     private static @Nullable DataFlowNode resolveCallbackOutput(
+            FlowGraph.Factory factory,
             Cursor callCursor,
             @Nullable Expression select,
             List<Expression> arguments,
@@ -698,25 +700,26 @@ private static void tryOutOfCallbackFlow(FlowGraph currentFlow, Cursor callCurso
     ) {
         switch (position.getKind()) {
             case RETURN_VALUE:
-                return DataFlowNode.of(callCursor).toNull();
+                return factory.node(callCursor);
             case QUALIFIER:
                 if (select == null) {
                     return null;
                 }
-                return DataFlowNode.of(new Cursor(callCursor, select)).toNull();
+                return factory.node(new Cursor(callCursor, select));
             case ARGUMENT:
                 int k = position.getArgument();
                 if (k < 0 || k >= arguments.size()) {
                     return null;
                 }
-                return DataFlowNode.of(new Cursor(callCursor, arguments.get(k))).toNull();
+                return factory.node(new Cursor(callCursor, arguments.get(k)));
             default:
                 return null;
         }
     }
 
     private static boolean callMatches(Cursor callCursor, InvocationMatcher matcher) {
-        return Call.viewOf(callCursor).map(c -> c.matches(matcher)).orSuccess(false);
+        Call call = Call.viewOfOrNull(callCursor);
+        return call != null && call.matches(matcher);
     }
 
     /**
@@ -752,7 +755,7 @@ private static boolean tryIntoCallbackFlow(FlowGraph currentFlow, Cursor callCur
             if (paramCursor == null) {
                 continue;
             }
-            DataFlowNode paramNode = DataFlowNode.of(paramCursor).toNull();
+            DataFlowNode paramNode = currentFlow.getFactory().node(paramCursor);
             if (paramNode == null) {
                 continue;
             }
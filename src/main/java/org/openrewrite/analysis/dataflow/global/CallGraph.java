@@ -0,0 +1,409 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.dataflow.global;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The methods declared or called in the scanned source files, and which of them may call which others. A call of
+ * an overridable method may call the overriding implementations declared in the scanned source files as well, either
+ * all of them ({@link Algorithm#CHA}) or only those of classes instantiated somewhere ({@link Algorithm#RTA}).
+ * <p>
+ * Methods are numbered in the order of their {@link #signature(int) signatures}, and the callees, callers and
+ * overriding implementations of all methods are kept in adjacency arrays indexed by those numbers.
+ * <p>
+ * A call graph is built by running the {@link Builder#scanner()} of a {@link #builder(Algorithm)} over every source
+ * file, typically in the scanning phase of a {@link org.openrewrite.ScanningRecipe}. Calls outside any method
+ * declaration, as in field initializers, have no caller.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CallGraph {
+
+    public enum Algorithm {
+        /**
+         * Class hierarchy analysis: a call may dispatch to every implementation overriding the called method.
+         */
+        CHA,
+
+        /**
+         * Rapid type analysis: a call may only dispatch to the overriding implementations of classes that are,
+         * or have a subclass which is, instantiated in one of the scanned source files.
+         */
+        RTA
+    }
+
+    private final String[] signatures;
+    private final Map<String, Integer> nodes;
+    private final int[] calleeOffsets;
+    private final int[] callees;
+    private final int[] callerOffsets;
+    private final int[] callers;
+    private final int[] implementationOffsets;
+    private final int[] implementations;
+    private final MethodTypeUtils.DeclarationMethods declarationMethods;
+
+    public static Builder builder(Algorithm algorithm) {
+        return builder(algorithm, new MethodTypeUtils.DeclarationMethods());
+    }
+
+    static Builder builder(Algorithm algorithm, MethodTypeUtils.DeclarationMethods declarationMethods) {
+        return new Builder(algorithm, declarationMethods);
+    }
+
+    public int size() {
+        return signatures.length;
+    }
+
+    /**
+     * @return The node of the method with this signature, or {@code -1} if it is neither declared nor called in the
+     * scanned source files.
+     */
+    public int node(String signature) {
+        Integer node = nodes.get(signature);
+        return node == null ? -1 : node;
+    }
+
+    /**
+     * @return The node of the method, or of the generic method it is a parameterization of, or {@code -1} if it is
+     * neither declared nor called in the scanned source files.
+     */
+    public int node(JavaType.Method method) {
+        return node(signature(declarationMethods.getDeclarationMethod(method)));
+    }
+
+    /**
+     * The fully qualified name of the declaring type, followed by {@code #}, the method name and the fully qualified
+     * names of the parameter types, like {@code java.util.List#add(java.lang.Object)}.
+     */
+    public String signature(int node) {
+        return signatures[node];
+    }
+
+    public static String signature(JavaType.Method method) {
+        return MethodTypeUtils.signature(method);
+    }
+
+    public int[] callees(int node) {
+        return Arrays.copyOfRange(callees, calleeOffsets[node], calleeOffsets[node + 1]);
+    }
+
+    public int[] callers(int node) {
+        return Arrays.copyOfRange(callers, callerOffsets[node], callerOffsets[node + 1]);
+    }
+
+    /**
+     * @return The methods declared in the scanned source files that a call of this method may dispatch to instead.
+     */
+    public int[] implementations(int node) {
+        return Arrays.copyOfRange(implementations, implementationOffsets[node], implementationOffsets[node + 1]);
+    }
+
+    /**
+     * @return Every method that can be reached from the given ones by following calls, including the given ones.
+     */
+    public BitSet reachableFrom(int... roots) {
+        BitSet reached = new BitSet(size());
+        int[] stack = new int[Math.max(16, roots.length)];
+        int top = 0;
+        for (int root : roots) {
+            if (!reached.get(root)) {
+                reached.set(root);
+                stack[top++] = root;
+            }
+        }
+        while (top > 0) {
+            int node = stack[--top];
+            for (int i = calleeOffsets[node]; i < calleeOffsets[node + 1]; i++) {
+                int callee = callees[i];
+                if (!reached.get(callee)) {
+                    reached.set(callee);
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, stack.length * 2);
+                    }
+                    stack[top++] = callee;
+                }
+            }
+        }
+        return reached;
+    }
+
+    public boolean isReachable(int from, int to) {
+        return reachableFrom(from).get(to);
+    }
+
+    /**
+     * The methods of the supertypes of the declaring type that this method overrides, for any method that can
+     * override another at all.
+     */
+    static List<JavaType.Method> overriddenMethods(JavaType.Method method) {
+        if (method.isConstructor() || method.hasFlags(Flag.Static) || method.hasFlags(Flag.Private)) {
+            return Collections.emptyList();
+        }
+        List<JavaType.Method> overridden = new ArrayList<>(0);
+        for (JavaType.FullyQualified supertype : supertypes(method.getDeclaringType(), false)) {
+            for (JavaType.Method candidate : supertype.getMethods()) {
+                if (overrides(method, candidate)) {
+                    overridden.add(candidate);
+                }
+            }
+        }
+        return overridden;
+    }
+
+    private static boolean overrides(JavaType.Method method, JavaType.Method candidate) {
+        if (!candidate.getName().equals(method.getName()) ||
+            candidate.getParameterTypes().size() != method.getParameterTypes().size() ||
+            candidate.isConstructor() || candidate.hasFlags(Flag.Static) || candidate.hasFlags(Flag.Private)) {
+            return false;
+        }
+        for (int i = 0; i < method.getParameterTypes().size(); i++) {
+            JavaType parameterType = candidate.getParameterTypes().get(i);
+            // The overridden method of a generic supertype may take a type variable where the overriding one
+            // takes the type argument
+            if (!(parameterType instanceof JavaType.GenericTypeVariable) &&
+                !TypeUtils.isOfType(parameterType, method.getParameterTypes().get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The transitive supertypes of the type, each once.
+     */
+    private static Collection<JavaType.FullyQualified> supertypes(JavaType.FullyQualified type, boolean inclusive) {
+        Map<String, JavaType.FullyQualified> supertypes = new LinkedHashMap<>();
+        Deque<JavaType.FullyQualified> queue = new ArrayDeque<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            JavaType.FullyQualified next = queue.poll();
+            if (supertypes.putIfAbsent(next.getFullyQualifiedName(), next) != null) {
+                continue;
+            }
+            if (next.getSupertype() != null) {
+                queue.add(next.getSupertype());
+            }
+            queue.addAll(next.getInterfaces());
+        }
+        if (!inclusive) {
+            supertypes.remove(type.getFullyQualifiedName());
+        }
+        return supertypes.values();
+    }
+
+    /**
+     * Collects the declared methods, calls and instantiations of every source file it scans. The scanner may run
+     * concurrently on different source files.
+     */
+    public static final class Builder {
+        private final Algorithm algorithm;
+        private final MethodTypeUtils.DeclarationMethods declarationMethods;
+        private final Queue<JavaType.Method> declared = new ConcurrentLinkedQueue<>();
+        private final Queue<CallSite> calls = new ConcurrentLinkedQueue<>();
+        private final Map<String, JavaType.FullyQualified> instantiated = new ConcurrentHashMap<>();
+
+        private Builder(Algorithm algorithm, MethodTypeUtils.DeclarationMethods declarationMethods) {
+            this.algorithm = algorithm;
+            this.declarationMethods = declarationMethods;
+        }
+
+        public TreeVisitor<?, ExecutionContext> scanner() {
+            return new JavaIsoVisitor<ExecutionContext>() {
+                @Override
+                public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                    if (method.getMethodType() != null) {
+                        declared.add(method.getMethodType());
+                    }
+                    return super.visitMethodDeclaration(method, ctx);
+                }
+
+                @Override
+                public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                    JavaType.Method methodType = method.getMethodType();
+                    if (methodType != null) {
+                        boolean superCall = method.getSelect() instanceof J.Identifier &&
+                                            "super".equals(((J.Identifier) method.getSelect()).getSimpleName());
+                        call(methodType, !superCall);
+                    }
+                    return super.visitMethodInvocation(method, ctx);
+                }
+
+                @Override
+                public J.MemberReference visitMemberReference(J.MemberReference memberRef, ExecutionContext ctx) {
+                    if (memberRef.getMethodType() != null) {
+                        call(memberRef.getMethodType(), true);
+                    }
+                    return super.visitMemberReference(memberRef, ctx);
+                }
+
+                @Override
+                public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                    JavaType.FullyQualified type = TypeUtils.asFullyQualified(newClass.getType());
+                    if (type != null) {
+                        instantiated.putIfAbsent(type.getFullyQualifiedName(), type);
+                    }
+                    if (newClass.getBody() != null) {
+                        // The anonymous class is only ever instantiated right here
+                        for (Statement statement : newClass.getBody().getStatements()) {
+                            if (statement instanceof J.MethodDeclaration &&
+                                ((J.MethodDeclaration) statement).getMethodType() != null) {
+                                JavaType.FullyQualified anonymous = ((J.MethodDeclaration) statement).getMethodType().getDeclaringType();
+                                instantiated.putIfAbsent(anonymous.getFullyQualifiedName(), anonymous);
+                            }
+                        }
+                    }
+                    if (newClass.getConstructorType() != null) {
+                        call(newClass.getConstructorType(), false);
+                    }
+                    return super.visitNewClass(newClass, ctx);
+                }
+
+                private void call(JavaType.Method callee, boolean virtual) {
+                    J.MethodDeclaration caller = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                    if (caller != null && caller.getMethodType() != null) {
+                        calls.add(new CallSite(caller.getMethodType(), callee, virtual));
+                    }
+                }
+            };
+        }
+
+        public CallGraph build() {
+            // Every overridable method declared in the scanned source files, by the methods it overrides
+            Map<String, Set<String>> overriders = new HashMap<>();
+            Set<String> signatures = new TreeSet<>();
+            Set<String> live = algorithm == Algorithm.RTA ? liveTypes() : Collections.emptySet();
+            for (JavaType.Method method : declared) {
+                String signature = signature(method);
+                signatures.add(signature);
+                if (algorithm == Algorithm.RTA && !live.contains(method.getDeclaringType().getFullyQualifiedName())) {
+                    continue;
+                }
+                for (JavaType.Method overridden : overriddenMethods(method)) {
+                    String overriddenSignature = signature(overridden);
+                    signatures.add(overriddenSignature);
+                    overriders.computeIfAbsent(overriddenSignature, __ -> new TreeSet<>()).add(signature);
+                }
+            }
+
+            List<Edge> edges = new ArrayList<>();
+            for (CallSite call : calls) {
+                String caller = signature(call.getCaller());
+                String callee = signature(declarationMethods.getDeclarationMethod(call.getCallee()));
+                signatures.add(caller);
+                signatures.add(callee);
+                edges.add(new Edge(caller, callee));
+                if (call.isVirtual()) {
+                    for (String implementation : overriders.getOrDefault(callee, Collections.emptySet())) {
+                        edges.add(new Edge(caller, implementation));
+                    }
+                }
+            }
+
+            String[] bySignature = signatures.toArray(new String[0]);
+            Map<String, Integer> nodes = new HashMap<>(bySignature.length * 2);
+            for (int i = 0; i < bySignature.length; i++) {
+                nodes.put(bySignature[i], i);
+            }
+
+            long[] callPairs = new long[edges.size()];
+            for (int i = 0; i < edges.size(); i++) {
+                callPairs[i] = pair(nodes.get(edges.get(i).getFrom()), nodes.get(edges.get(i).getTo()));
+            }
+            List<Long> implementationPairs = new ArrayList<>();
+            for (Map.Entry<String, Set<String>> overridden : overriders.entrySet()) {
+                for (String implementation : overridden.getValue()) {
+                    implementationPairs.add(pair(nodes.get(overridden.getKey()), nodes.get(implementation)));
+                }
+            }
+
+            int[] calleeOffsets = new int[bySignature.length + 1];
+            int[] callees = adjacency(callPairs, calleeOffsets, false);
+            int[] callerOffsets = new int[bySignature.length + 1];
+            int[] callers = adjacency(callPairs, callerOffsets, true);
+            int[] implementationOffsets = new int[bySignature.length + 1];
+            int[] implementations = adjacency(
+                    implementationPairs.stream().mapToLong(Long::longValue).toArray(), implementationOffsets, false);
+
+            return new CallGraph(bySignature, nodes, calleeOffsets, callees, callerOffsets, callers,
+                    implementationOffsets, implementations, declarationMethods);
+        }
+
+        /**
+         * The instantiated types and all of their supertypes, whose methods may be called on an instance.
+         */
+        private Set<String> liveTypes() {
+            Set<String> live = new HashSet<>();
+            for (JavaType.FullyQualified type : instantiated.values()) {
+                for (JavaType.FullyQualified supertype : supertypes(type, true)) {
+                    live.add(supertype.getFullyQualifiedName());
+                }
+            }
+            return live;
+        }
+
+        private static long pair(int from, int to) {
+            return (long) from << 32 | to;
+        }
+
+        /**
+         * Sorts and deduplicates the pairs, and fills in the offsets of the adjacency array indexed by the
+         * first of each pair, or by the second when {@code reversed}.
+         */
+        private static int[] adjacency(long[] pairs, int[] offsets, boolean reversed) {
+            long[] sorted = new long[pairs.length];
+            for (int i = 0; i < pairs.length; i++) {
+                sorted[i] = reversed ? pair((int) pairs[i], (int) (pairs[i] >>> 32)) : pairs[i];
+            }
+            Arrays.sort(sorted);
+            int[] targets = new int[sorted.length];
+            int count = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i > 0 && sorted[i] == sorted[i - 1]) {
+                    continue;
+                }
+                offsets[(int) (sorted[i] >>> 32) + 1]++;
+                targets[count++] = (int) sorted[i];
+            }
+            for (int node = 0; node + 1 < offsets.length; node++) {
+                offsets[node + 1] += offsets[node];
+            }
+            return Arrays.copyOf(targets, count);
+        }
+    }
+
+    @Value
+    private static class CallSite {
+        JavaType.Method caller;
+        JavaType.Method callee;
+        boolean virtual;
+    }
+
+    @Value
+    private static class Edge {
+        String from;
+        String to;
+    }
+}
@@ -16,8 +16,10 @@
 package org.openrewrite.analysis.dataflow.global;
 
 import lombok.AllArgsConstructor;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
 import org.openrewrite.TreeVisitor;
 
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -45,4 +47,14 @@ public GlobalDataFlow.Summary summary(Cursor cursor) {
         }
         return decorated.summary(cursor);
     }
+
+    @Override
+    public @Nullable CallGraph callGraph() {
+        return decorated.callGraph();
+    }
+
+    @Override
+    public boolean isSkipped(SourceFile sourceFile) {
+        return decorated.isSkipped(sourceFile);
+    }
 }
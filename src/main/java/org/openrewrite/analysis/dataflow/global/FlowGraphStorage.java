@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.dataflow.global;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Allocates the int tables that make up a {@link GlobalFlowGraph}, either on the heap or, for graphs too large
+ * to fit there, in memory-mapped files in a temporary directory that is deleted again when the storage is closed.
+ */
+final class FlowGraphStorage implements Closeable {
+    /**
+     * 2^28 ints, or 1 GiB, per mapped region.
+     */
+    private static final int CHUNK_SHIFT = 28;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final @Nullable Path directory;
+    private final List<Path> files = new ArrayList<>();
+    private long heapInts;
+
+    private FlowGraphStorage(@Nullable Path directory) {
+        this.directory = directory;
+    }
+
+    static FlowGraphStorage onHeap() {
+        return new FlowGraphStorage(null);
+    }
+
+    static FlowGraphStorage mapped(@Nullable Path parent) {
+        try {
+            Path root = parent == null ? Paths.get(System.getProperty("java.io.tmpdir")) : parent;
+            Files.createDirectories(root);
+            return new FlowGraphStorage(Files.createTempDirectory(root, "global-data-flow"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Chooses where to allocate tables holding {@code ints} ints in total.
+     */
+    static FlowGraphStorage forSize(long ints, GlobalDataFlowSettings settings) {
+        return ints * Integer.BYTES > settings.getSpillThresholdBytes() ?
+                mapped(settings.getSpillDirectory()) :
+                onHeap();
+    }
+
+    boolean isMapped() {
+        return directory != null;
+    }
+
+    /**
+     * @return The number of ints allocated on the heap, which is zero for mapped storage.
+     */
+    long getHeapInts() {
+        return heapInts;
+    }
+
+    /**
+     * @param name The name of the table, which need not be unique, as tables are allocated for scratch space too.
+     */
+    IntTable allocate(String name, int size) {
+        if (directory == null) {
+            heapInts += size;
+            return new HeapIntTable(new int[size]);
+        }
+        Path file = directory.resolve(name + "-" + files.size() + ".bin");
+        files.add(file);
+        try (FileChannel channel = FileChannel.open(file, CREATE_NEW, READ, WRITE)) {
+            // A mapping remains valid after its channel has been closed
+            IntBuffer[] chunks = new IntBuffer[(int) (((long) size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT)];
+            for (int i = 0; i < chunks.length; i++) {
+                long ints = Math.min(CHUNK_SIZE, (long) size - ((long) i << CHUNK_SHIFT));
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, ((long) i << CHUNK_SHIFT) * Integer.BYTES,
+                        ints * Integer.BYTES).asIntBuffer();
+            }
+            return new MappedIntTable(chunks);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (directory == null) {
+            return;
+        }
+        try {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            // Files that are still mapped cannot be deleted on every platform
+            directory.toFile().deleteOnExit();
+            for (Path file : files) {
+                file.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    interface IntTable {
+        int get(int index);
+
+        void set(int index, int value);
+    }
+
+    private static final class HeapIntTable implements IntTable {
+        private final int[] values;
+
+        HeapIntTable(int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public int get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public void set(int index, int value) {
+            values[index] = value;
+        }
+    }
+
+    private static final class MappedIntTable implements IntTable {
+        private final IntBuffer[] chunks;
+
+        MappedIntTable(IntBuffer[] chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        public int get(int index) {
+            return chunks[index >>> CHUNK_SHIFT].get(index & CHUNK_MASK);
+        }
+
+        @Override
+        public void set(int index, int value) {
+            chunks[index >>> CHUNK_SHIFT].put(index & CHUNK_MASK, value);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.dataflow.global;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * The global data flow of a single source file, reduced to plain arrays so that no {@link org.openrewrite.Cursor}
+ * or LST element remains reachable once the source file has been scanned.
+ * <p>
+ * Nodes are numbered {@code 0..size()-1} and identified across runs by the source path together with the
+ * {@link org.openrewrite.Tree#getId() tree id} of the element they represent. Edges are stored in compressed sparse
+ * row form. The roles table lists, per method signature, the parameters, arguments, return values and calls that
+ * connect this source file to the methods of every other source file, ordered by node.
+ * <p>
+ * Only nodes which are both reachable from a source, parameter or call and which reach a sink, argument or return
+ * value are kept, as no other node can ever participate in a flow from a source to a sink.
+ */
+@Getter(AccessLevel.PACKAGE)
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+final class FlowSummary {
+    static final int SOURCE = 1;
+    static final int SINK = 1 << 1;
+    static final int ARGUMENT = 1 << 2;
+    static final int RETURN = 1 << 3;
+    static final int METHOD_CALL = 1 << 4;
+
+    /**
+     * Value of {@link #callSites} for nodes which are not method arguments.
+     */
+    static final int NO_CALL_SITE = -1;
+
+    /**
+     * Value of {@link #callSites} for method arguments whose method call is not part of the summary.
+     */
+    static final int DETACHED_CALL_SITE = -2;
+
+    enum Role {
+        CALL,
+        PARAMETER,
+        ARGUMENT,
+        RETURN
+    }
+
+    private final Path sourcePath;
+
+    /**
+     * The pre-order position of each node's tree element in the source file, which unlike the tree id is the same
+     * every time the source file is parsed. {@link FlowSummaryCache} persists nodes by their ordinal.
+     */
+    private final int[] ordinals;
+
+    private final long[] idMostSignificantBits;
+    private final long[] idLeastSignificantBits;
+    private final int[] flags;
+    private final int[] callSites;
+    private final int[] edgeOffsets;
+    private final int[] edgeTargets;
+
+    private final String[] methodSignatures;
+    private final int[] roleNodes;
+    private final Role[] roleKinds;
+    private final int[] roleMethods;
+    private final int[] rolePositions;
+
+    int size() {
+        return flags.length;
+    }
+
+    int roleCount() {
+        return roleNodes.length;
+    }
+
+    UUID getId(int node) {
+        return new UUID(idMostSignificantBits[node], idLeastSignificantBits[node]);
+    }
+
+    boolean is(int node, int flag) {
+        return (flags[node] & flag) != 0;
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.dataflow.global;
+
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.analysis.dataflow.DataFlowSpec;
+import org.openrewrite.java.internal.TypesInUse;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Persists the {@link FlowSummary} of every source file in a local directory, keyed by the source path and the
+ * {@link GlobalDataFlowSettings#getSpecFingerprint() spec fingerprint}. A persisted summary is only reused when both
+ * the content of the source file and the
+ * {@link #typeAttribution(JavaSourceFile, MethodTypeUtils.DeclarationMethods) types} it was attributed with are
+ * unchanged; its nodes are then mapped back onto the tree ids of the freshly parsed source file by their pre-order
+ * position.
+ */
+@RequiredArgsConstructor
+final class FlowSummaryCache {
+    private static final int MAGIC = 0x47444653;
+    private static final int VERSION = 2;
+
+    private final Path directory;
+    private final String specFingerprint;
+
+    static @Nullable FlowSummaryCache from(GlobalDataFlowSettings settings) {
+        Path directory = settings.getCacheDirectory();
+        String specFingerprint = settings.getSpecFingerprint();
+        return directory == null || specFingerprint == null ? null : new FlowSummaryCache(directory, specFingerprint);
+    }
+
+    FlowSummary summarize(DataFlowSpec spec, MethodTypeUtils.DeclarationMethods declarationMethods,
+                          JavaSourceFile sourceFile, ExecutionContext ctx, Cursor parent) {
+        String contentHash = sha256(sourceFile.printAll() + '\n' + typeAttribution(sourceFile, declarationMethods));
+        Path file = directory.resolve(sha256(specFingerprint + '\n' + sourceFile.getSourcePath()) + ".summary");
+        FlowSummary cached = read(file, sourceFile, contentHash, ctx, parent);
+        if (cached != null) {
+            return cached;
+        }
+        FlowSummary summary = PartialGlobalDataFlow.summarize(spec, declarationMethods, sourceFile, ctx, parent);
+        write(file, summary, contentHash);
+        return summary;
+    }
+
+    private @Nullable FlowSummary read(Path file, JavaSourceFile sourceFile, String contentHash,
+                                       ExecutionContext ctx, Cursor parent) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION ||
+                !in.readUTF().equals(specFingerprint) ||
+                !in.readUTF().equals(sourceFile.getSourcePath().toString()) ||
+                !in.readUTF().equals(contentHash)) {
+                return null;
+            }
+            int[] ordinals = readInts(in);
+            List<UUID> treeIds = PartialGlobalDataFlow.treeIdsInPreOrder(sourceFile, ctx, parent);
+            long[] mostSignificantBits = new long[ordinals.length];
+            long[] leastSignificantBits = new long[ordinals.length];
+            for (int node = 0; node < ordinals.length; node++) {
+                if (ordinals[node] < 0 || ordinals[node] >= treeIds.size()) {
+                    return null;
+                }
+                UUID id = treeIds.get(ordinals[node]);
+                mostSignificantBits[node] = id.getMostSignificantBits();
+                leastSignificantBits[node] = id.getLeastSignificantBits();
+            }
+            int[] flags = readInts(in);
+            int[] callSites = readInts(in);
+            int[] edgeOffsets = readInts(in);
+            int[] edgeTargets = readInts(in);
+            String[] methodSignatures = new String[in.readInt()];
+            for (int i = 0; i < methodSignatures.length; i++) {
+                methodSignatures[i] = in.readUTF();
+            }
+            int[] roleNodes = readInts(in);
+            FlowSummary.Role[] roleKinds = new FlowSummary.Role[roleNodes.length];
+            for (int i = 0; i < roleKinds.length; i++) {
+                roleKinds[i] = FlowSummary.Role.values()[in.readByte()];
+            }
+            int[] roleMethods = readInts(in);
+            int[] rolePositions = readInts(in);
+            return new FlowSummary(
+                    sourceFile.getSourcePath(),
+                    ordinals,
+                    mostSignificantBits,
+                    leastSignificantBits,
+                    flags,
+                    callSites,
+                    edgeOffsets,
+                    edgeTargets,
+                    methodSignatures,
+                    roleNodes,
+                    roleKinds,
+                    roleMethods,
+                    rolePositions
+            );
+        } catch (IOException | RuntimeException e) {
+            // A corrupt or incompatible cache entry is simply summarized again
+            return null;
+        }
+    }
+
+    private void write(Path file, FlowSummary summary, String contentHash) {
+        for (int ordinal : summary.getOrdinals()) {
+            if (ordinal < 0) {
+                // This summary could not be mapped back onto a freshly parsed source file
+                return;
+            }
+        }
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(specFingerprint);
+                out.writeUTF(summary.getSourcePath().toString());
+                out.writeUTF(contentHash);
+                writeInts(out, summary.getOrdinals());
+                writeInts(out, summary.getFlags());
+                writeInts(out, summary.getCallSites());
+                writeInts(out, summary.getEdgeOffsets());
+                writeInts(out, summary.getEdgeTargets());
+                out.writeInt(summary.getMethodSignatures().length);
+                for (String signature : summary.getMethodSignatures()) {
+                    out.writeUTF(signature);
+                }
+                writeInts(out, summary.getRoleNodes());
+                for (FlowSummary.Role kind : summary.getRoleKinds()) {
+                    out.writeByte(kind.ordinal());
+                }
+                writeInts(out, summary.getRoleMethods());
+                writeInts(out, summary.getRolePositions());
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Like a cache entry that cannot be read, one that cannot be written is simply summarized again next run
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // The directory is unusable, so there is nothing more to clean up
+                }
+            }
+        }
+    }
+
+    /**
+     * The summary of a source file also depends on the other source files, through the types its trees are attributed
+     * with: the signatures of the methods it declares and calls, the declarations those calls resolve to, the methods
+     * its declarations override and the supertypes the spec may match on. Any change to these, even one made in
+     * another source file, invalidates the summary.
+     */
+    static String typeAttribution(JavaSourceFile sourceFile, MethodTypeUtils.DeclarationMethods declarationMethods) {
+        TypesInUse typesInUse = sourceFile.getTypesInUse();
+        Set<String> attribution = new TreeSet<>();
+        for (JavaType type : typesInUse.getTypesInUse()) {
+            if (type instanceof JavaType.FullyQualified) {
+                JavaType.FullyQualified fullyQualified = (JavaType.FullyQualified) type;
+                StringJoiner supertypes = new StringJoiner(",",
+                        "type " + fullyQualified.getFullyQualifiedName() + ":", "");
+                for (JavaType.FullyQualified supertype = fullyQualified.getSupertype(); supertype != null;
+                     supertype = supertype.getSupertype()) {
+                    supertypes.add(supertype.getFullyQualifiedName());
+                }
+                for (JavaType.FullyQualified anInterface : fullyQualified.getInterfaces()) {
+                    supertypes.add(anInterface.getFullyQualifiedName());
+                }
+                attribution.add(supertypes.toString());
+            }
+        }
+        for (JavaType.Method method : typesInUse.getUsedMethods()) {
+            attribution.add("used " + method(method) + "->" +
+                            MethodTypeUtils.signature(declarationMethods.getDeclarationMethod(method)));
+        }
+        for (JavaType.Method method : typesInUse.getDeclaredMethods()) {
+            StringJoiner overridden = new StringJoiner(",", "declared " + method(method) + ":", "");
+            for (JavaType.Method overriddenMethod : CallGraph.overriddenMethods(method)) {
+                overridden.add(MethodTypeUtils.signature(overriddenMethod));
+            }
+            attribution.add(overridden.toString());
+        }
+        return String.join("\n", attribution);
+    }
+
+    private static String method(JavaType.Method method) {
+        return MethodTypeUtils.signature(method) + new TreeSet<>(method.getFlags()) +
+               MethodTypeUtils.typeName(method.getReturnType());
+    }
+
+    private static int[] readInts(DataInputStream in) throws IOException {
+        int[] values = new int[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static String sha256(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
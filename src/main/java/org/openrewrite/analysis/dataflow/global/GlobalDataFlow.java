@@ -16,12 +16,18 @@
 package org.openrewrite.analysis.dataflow.global;
 
 import lombok.NoArgsConstructor;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.analysis.InvocationMatcher;
 import org.openrewrite.analysis.dataflow.DataFlowNode;
 import org.openrewrite.analysis.dataflow.DataFlowSpec;
 
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
 /**
  * Plan:
  * <p>
@@ -43,7 +49,44 @@
 public class GlobalDataFlow {
 
     public static Accumulator accumulator(DataFlowSpec spec) {
-        return CallOrderEnforcingGlobalDataFlowAccumulator.wrap(new GlobalDataFlowAccumulator(spec));
+        return accumulator(spec, GlobalDataFlowSettings.DEFAULT);
+    }
+
+    /**
+     * @param ctx The context to read the {@link GlobalDataFlowSettings} from, typically the one passed to
+     *            {@link org.openrewrite.ScanningRecipe#getInitialValue(ExecutionContext)}.
+     */
+    public static Accumulator accumulator(DataFlowSpec spec, ExecutionContext ctx) {
+        return accumulator(spec, GlobalDataFlowSettings.get(ctx));
+    }
+
+    public static Accumulator accumulator(DataFlowSpec spec, GlobalDataFlowSettings settings) {
+        return CallOrderEnforcingGlobalDataFlowAccumulator.wrap(new GlobalDataFlowAccumulator(spec, settings));
+    }
+
+    /**
+     * Only links the source files that calls and method declarations connect to both a source file calling one of
+     * the {@code sourceMethods} and a sink file calling one of the {@code sinkMethods}. This finds the same flows
+     * as long as every source and sink of the {@code spec} is part of a call to one of those methods.
+     * <p>
+     * Every source file is still summarized while it is scanned, because its LST is not retained until the scan of
+     * all the others tells whether it is connected. Only linking and pruning are limited to the connected ones.
+     */
+    public static Accumulator accumulator(DataFlowSpec spec, GlobalDataFlowSettings settings,
+                                          InvocationMatcher sourceMethods, InvocationMatcher sinkMethods) {
+        return accumulator(spec, settings, sourceMethods, sinkMethods, sourcePath -> {
+        });
+    }
+
+    /**
+     * @param skipped Called once with the path of every source file left out of linking, when all source files are
+     *                scanned.
+     */
+    public static Accumulator accumulator(DataFlowSpec spec, GlobalDataFlowSettings settings,
+                                          InvocationMatcher sourceMethods, InvocationMatcher sinkMethods,
+                                          Consumer<Path> skipped) {
+        return CallOrderEnforcingGlobalDataFlowAccumulator.wrap(new GlobalDataFlowAccumulator(spec, settings,
+                new RelevantSourceFiles(sourceMethods, sinkMethods, settings.getCallGraph() != null, skipped)));
     }
 
     public interface Accumulator {
@@ -52,6 +95,22 @@ public interface Accumulator {
 
         Summary summary(Cursor cursor);
 
+        /**
+         * @return {@code true} when the source file was scanned and summarized but left out of linking, because no
+         * call path connects it to both a source and a sink.
+         */
+        default boolean isSkipped(SourceFile sourceFile) {
+            return false;
+        }
+
+        /**
+         * @return The call graph that calls were linked through, once all source files are scanned, or {@code null}
+         * unless {@link GlobalDataFlowSettings#getCallGraph()} asks for one.
+         */
+        default @Nullable CallGraph callGraph() {
+            return null;
+        }
+
         default TreeVisitor<?, ExecutionContext> renderer() {
             return new RenderGlobalFlowPaths<>(this);
         }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.dataflow.global;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import lombok.With;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+
+import java.nio.file.Path;
+
+/**
+ * Settings of a {@link GlobalDataFlow.Accumulator} created with
+ * {@link GlobalDataFlow#accumulator(org.openrewrite.analysis.dataflow.DataFlowSpec, ExecutionContext)}.
+ */
+@Value
+@With
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GlobalDataFlowSettings {
+    public static final long DEFAULT_SPILL_THRESHOLD_BYTES = 512L * 1024 * 1024;
+
+    public static final GlobalDataFlowSettings DEFAULT = new GlobalDataFlowSettings(
+            DEFAULT_SPILL_THRESHOLD_BYTES, null, null, null, Engine.PRUNING, null);
+
+    public enum Engine {
+        /**
+         * Walks the flow graph from every source, pruning the returns to method calls the walk did not enter
+         * the method through.
+         */
+        PRUNING,
+
+        /**
+         * Expands the flow graph from the sources only, reusing the summary of every method entered, and
+         * matches every return with the call it returns from.
+         */
+        TABULATION
+    }
+
+    private static final String SETTINGS_KEY = "org.openrewrite.analysis.dataflow.global.settings";
+
+    /**
+     * Once the node and edge tables of the linked global flow graph would take up more than this many bytes,
+     * they are kept in memory-mapped files instead of on the heap.
+     */
+    long spillThresholdBytes;
+
+    /**
+     * The directory the memory-mapped files are created in, or {@code null} for {@code java.io.tmpdir}.
+     */
+    @Nullable
+    Path spillDirectory;
+
+    /**
+     * The directory to persist the flow summary of every scanned source file in, so that a later run only has to
+     * summarize the source files that changed. Summaries are only cached when a {@link #getSpecFingerprint()}
+     * is given as well.
+     */
+    @Nullable
+    Path cacheDirectory;
+
+    /**
+     * Identifies the {@link org.openrewrite.analysis.dataflow.DataFlowSpec} the summaries were computed with, and
+     * must change whenever the spec would classify any node differently. Summaries also depend upon the types the
+     * source file refers to, so the fingerprint should change when the classpath does.
+     */
+    @Nullable
+    String specFingerprint;
+
+    /**
+     * How the sources are connected to the sinks once the summaries of all source files have been linked.
+     */
+    Engine engine;
+
+    /**
+     * When given, the arguments of a call also flow into the parameters of the implementations overriding the called
+     * method, and their return values back to the call, as resolved by a {@link CallGraph} built with this algorithm.
+     * Otherwise, calls are only linked to the method they name.
+     */
+    CallGraph.@Nullable Algorithm callGraph;
+
+    public static GlobalDataFlowSettings get(ExecutionContext ctx) {
+        return ctx.getMessage(SETTINGS_KEY, DEFAULT);
+    }
+
+    public static void set(ExecutionContext ctx, GlobalDataFlowSettings settings) {
+        ctx.putMessage(SETTINGS_KEY, settings);
+    }
+}
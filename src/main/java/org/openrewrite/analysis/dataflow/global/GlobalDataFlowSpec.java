@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.dataflow.global;
+
+import lombok.AllArgsConstructor;
+import org.openrewrite.analysis.controlflow.Guard;
+import org.openrewrite.analysis.dataflow.DataFlowNode;
+import org.openrewrite.analysis.dataflow.DataFlowSpec;
+import org.openrewrite.analysis.trait.expr.Call;
+
+/**
+ * Decorates the user supplied {@link DataFlowSpec} so that flow is also followed from every method argument into the
+ * method call itself. The global flow graph is therefore a superset of the real flow, which is pruned again once all
+ * the source files have been linked together.
+ */
+@AllArgsConstructor
+class GlobalDataFlowSpec extends DataFlowSpec {
+
+    private final DataFlowSpec decorated;
+
+    @Override
+    public boolean isSource(DataFlowNode srcNode) {
+        return decorated.isSource(srcNode);
+    }
+
+    @Override
+    public boolean isSink(DataFlowNode sinkNode) {
+        // This is never used in FindFlow, as we only care about sources for Global Data Flow Analysis
+        return false;
+    }
+
+    @Override
+    public boolean isAdditionalFlowStep(DataFlowNode srcNode, DataFlowNode sinkNode) {
+        return decorated.isAdditionalFlowStep(srcNode, sinkNode) ||
+               isAdditionalGlobalDataFlowStep(srcNode, sinkNode);
+    }
+
+    @Override
+    public boolean isBarrier(DataFlowNode node) {
+        return decorated.isBarrier(node);
+    }
+
+    @Override
+    public boolean isBarrierGuard(Guard guard, boolean branch) {
+        return decorated.isBarrierGuard(guard, branch);
+    }
+
+    static boolean isAdditionalGlobalDataFlowStep(DataFlowNode srcNode, DataFlowNode sinkNode) {
+        Call call = sinkNode.asExprParentOrNull(Call.class);
+        return call != null && call.methodTypeMatcher().advanced().isAnyArgument(srcNode.getCursor());
+    }
+}
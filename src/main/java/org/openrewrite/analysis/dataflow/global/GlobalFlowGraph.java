@@ -0,0 +1,857 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.dataflow.global;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.analysis.dataflow.global.FlowGraphStorage.IntTable;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * The {@link FlowSummary}s of all source files, linked together into a single graph by connecting arguments to the
+ * parameters of the called method, and the return values of a method to every call to it.
+ * <p>
+ * Nodes are numbered consecutively across all the summaries, in the order the summaries were linked, so the graph
+ * is nothing but tables of ints. Linking writes those tables in a single pass over the nodes, releasing every summary
+ * once it is written, and once they grow past {@link GlobalDataFlowSettings#getSpillThresholdBytes()} they are
+ * memory-mapped files rather than heap arrays. So are the nodes of the parameters and calls of every method, and the
+ * scratch space of {@link #sinkReachable()} and {@link #findParticipants()}. What stays on the heap is per source
+ * file or per method signature, or a single bit per node or edge.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class GlobalFlowGraph implements Closeable {
+    static final int LOCAL = 0;
+    static final int CALL = 1;
+    static final int RETURN = 2;
+
+    private final Path[] sourcePaths;
+    private final int[] summaryOffsets;
+    private final int size;
+    private final int edgeCount;
+    private final FlowGraphStorage storage;
+    private final IntTable flags;
+
+    /**
+     * The tree id of every node, as four ints: the high and low halves of its most significant bits, then those of
+     * its least significant bits.
+     */
+    private final IntTable ids;
+
+    /**
+     * For method arguments, the node of the method call they are an argument of. Method calls which are not part of
+     * the graph are given a unique negative number, so that they never equal any other call site.
+     */
+    private final IntTable callSites;
+
+    private final IntTable edgeOffsets;
+    private final IntTable edgeTargets;
+
+    /**
+     * Whether an edge is {@link #LOCAL} to a method, or one of the {@link #CALL} or {@link #RETURN} edges that linking
+     * added between an argument and a parameter, or a return value and a method call.
+     */
+    private final IntTable edgeKinds;
+
+    /**
+     * For every node, the indices into {@link #edgeTargets} of the edges which end in that node.
+     */
+    private final IntTable reverseEdgeOffsets;
+    private final IntTable reverseEdges;
+    private final IntTable edgeSources;
+
+    static GlobalFlowGraph link(List<FlowSummary> summaries, GlobalDataFlowSettings settings) {
+        return link(summaries, settings, null);
+    }
+
+    /**
+     * @param summaries Every summary is set to {@code null} in this list once it is written to the tables of the
+     *                  graph, so that the summaries need not stay on the heap alongside the graph.
+     * @param callGraph When given, arguments are also linked to the parameters of the implementations overriding the
+     *                  called method, and the return values of those implementations to the call.
+     */
+    static GlobalFlowGraph link(List<FlowSummary> summaries, GlobalDataFlowSettings settings,
+                                @Nullable CallGraph callGraph) {
+        int[] summaryOffsets = new int[summaries.size() + 1];
+        Path[] sourcePaths = new Path[summaries.size()];
+        for (int i = 0; i < summaries.size(); i++) {
+            summaryOffsets[i + 1] = summaryOffsets[i] + summaries.get(i).size();
+            sourcePaths[i] = summaries.get(i).getSourcePath();
+        }
+        int size = summaryOffsets[summaries.size()];
+
+        MethodRoles methods = MethodRoles.count(summaries, callGraph);
+
+        // Linking is done in a single pass over the nodes, so the number of edges is only known
+        // up to the duplicates between local edges and linked edges beforehand
+        long maxEdgeCount = 0;
+        for (FlowSummary summary : summaries) {
+            maxEdgeCount += summary.getEdgeTargets().length;
+            int[] summaryMethods = methods.ids(summary);
+            for (int role = 0; role < summary.roleCount(); role++) {
+                maxEdgeCount += methods.linkedCount(summary.getRoleKinds()[role],
+                        summaryMethods[summary.getRoleMethods()[role]], summary.getRolePositions()[role]);
+            }
+        }
+        if (maxEdgeCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("The global flow graph has more than " + Integer.MAX_VALUE + " edges");
+        }
+        if (4L * size > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("The global flow graph has more than " + Integer.MAX_VALUE / 4 + " nodes");
+        }
+        int maxEdges = (int) maxEdgeCount;
+
+        FlowGraphStorage storage = FlowGraphStorage.forSize(9L * size + 4L * maxEdges + methods.roleNodeCount(), settings);
+        methods.index(summaries, summaryOffsets, storage);
+        IntTable flags = storage.allocate("flags", size);
+        IntTable ids = storage.allocate("ids", 4 * size);
+        IntTable callSites = storage.allocate("call-sites", size);
+        IntTable edgeOffsets = storage.allocate("edge-offsets", size + 1);
+        IntTable edgeTargets = storage.allocate("edge-targets", maxEdges);
+        IntTable edgeKinds = storage.allocate("edge-kinds", maxEdges);
+        IntTable edgeSources = storage.allocate("edge-sources", maxEdges);
+        IntTable reverseEdgeOffsets = storage.allocate("reverse-edge-offsets", size + 1);
+        IntTable reverseEdges = storage.allocate("reverse-edges", maxEdges);
+
+        int edge = 0;
+        // The kind of an edge is kept in the lowest two bits, so that a local edge wins over a linked one
+        Targets targets = new Targets();
+        for (int i = 0; i < summaries.size(); i++) {
+            FlowSummary summary = summaries.get(i);
+            summaries.set(i, null);
+            int[] summaryMethods = methods.ids(summary);
+            int base = summaryOffsets[i];
+            int role = 0;
+            for (int node = 0; node < summary.size(); node++) {
+                int global = base + node;
+                flags.set(global, summary.getFlags()[node]);
+                long most = summary.getIdMostSignificantBits()[node];
+                long least = summary.getIdLeastSignificantBits()[node];
+                ids.set(4 * global, (int) (most >>> 32));
+                ids.set(4 * global + 1, (int) most);
+                ids.set(4 * global + 2, (int) (least >>> 32));
+                ids.set(4 * global + 3, (int) least);
+                int callSite = summary.getCallSites()[node];
+                callSites.set(global, callSite >= 0 ? base + callSite :
+                        callSite == FlowSummary.DETACHED_CALL_SITE ? -2 - global : callSite);
+
+                targets.clear();
+                for (int local = summary.getEdgeOffsets()[node]; local < summary.getEdgeOffsets()[node + 1]; local++) {
+                    targets.add((long) (base + summary.getEdgeTargets()[local]) << 2 | LOCAL);
+                }
+                for (; role < summary.roleCount() && summary.getRoleNodes()[role] == node; role++) {
+                    methods.link(summary.getRoleKinds()[role], summaryMethods[summary.getRoleMethods()[role]],
+                            summary.getRolePositions()[role], targets);
+                }
+                targets.sort();
+                for (int t = 0; t < targets.count; t++) {
+                    int target = (int) (targets.values[t] >>> 2);
+                    if (t > 0 && target == (int) (targets.values[t - 1] >>> 2)) {
+                        continue;
+                    }
+                    edgeSources.set(edge, global);
+                    edgeKinds.set(edge, (int) (targets.values[t] & 3));
+                    edgeTargets.set(edge++, target);
+                    reverseEdgeOffsets.set(target + 1, reverseEdgeOffsets.get(target + 1) + 1);
+                }
+                edgeOffsets.set(global + 1, edge);
+            }
+        }
+
+        for (int node = 0; node < size; node++) {
+            reverseEdgeOffsets.set(node + 1, reverseEdgeOffsets.get(node + 1) + reverseEdgeOffsets.get(node));
+        }
+        IntTable fill = storage.allocate("reverse-edge-fill", size);
+        for (int node = 0; node < size; node++) {
+            fill.set(node, reverseEdgeOffsets.get(node));
+        }
+        for (int e = 0; e < edge; e++) {
+            int target = edgeTargets.get(e);
+            int slot = fill.get(target);
+            reverseEdges.set(slot, e);
+            fill.set(target, slot + 1);
+        }
+
+        return new GlobalFlowGraph(
+                sourcePaths,
+                summaryOffsets,
+                size,
+                edge,
+                storage,
+                flags,
+                ids,
+                callSites,
+                edgeOffsets,
+                edgeTargets,
+                edgeKinds,
+                reverseEdgeOffsets,
+                reverseEdges,
+                edgeSources
+        );
+    }
+
+    @Override
+    public void close() {
+        storage.close();
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isSpilled() {
+        return storage.isMapped();
+    }
+
+    /**
+     * @return The number of ints of the tables, scratch space included, that were allocated on the heap.
+     */
+    long getHeapInts() {
+        return storage.getHeapInts();
+    }
+
+    UUID getId(int node) {
+        return new UUID(
+                (long) ids.get(4 * node) << 32 | ids.get(4 * node + 1) & 0xFFFFFFFFL,
+                (long) ids.get(4 * node + 2) << 32 | ids.get(4 * node + 3) & 0xFFFFFFFFL
+        );
+    }
+
+    boolean is(int node, int flag) {
+        return (flags.get(node) & flag) != 0;
+    }
+
+    int callSite(int node) {
+        return callSites.get(node);
+    }
+
+    int edgeStart(int node) {
+        return edgeOffsets.get(node);
+    }
+
+    int edgeEnd(int node) {
+        return edgeOffsets.get(node + 1);
+    }
+
+    int edgeSource(int edge) {
+        return edgeSources.get(edge);
+    }
+
+    int edgeTarget(int edge) {
+        return edgeTargets.get(edge);
+    }
+
+    int edgeKind(int edge) {
+        return edgeKinds.get(edge);
+    }
+
+    int reverseEdgeStart(int node) {
+        return reverseEdgeOffsets.get(node);
+    }
+
+    int reverseEdgeEnd(int node) {
+        return reverseEdgeOffsets.get(node + 1);
+    }
+
+    int reverseEdge(int index) {
+        return reverseEdges.get(index);
+    }
+
+    /**
+     * Finds every node that lies on a path from a source to a sink, once the paths that return from a method to a
+     * call site other than the one the flow entered the method through have been pruned.
+     */
+    Participants findParticipants() {
+        BitSet participants = new BitSet(size());
+        Pruning pruning = new Pruning(sinkReachable());
+        for (int source = 0; source < size(); source++) {
+            if ((flags.get(source) & FlowSummary.SOURCE) != 0 && pruning.sinkReachable.get(source)) {
+                pruning.prune(source);
+                BitSet reachable = pruning.reachableFrom(source);
+                // Without any pruned edge, every reachable node still reaches a sink
+                participants.or(pruning.removedEdgeCount == 0 ? reachable : pruning.reachingSink(reachable));
+                pruning.reset();
+            }
+        }
+        return toParticipants(participants);
+    }
+
+    /**
+     * The nodes from which a sink can be reached in the graph before any pruning, which no pruning can add to.
+     * <p>
+     * The graph is condensed into its strongly connected components with Tarjan's algorithm, which completes every
+     * component only after all the components reachable from it. Whether a sink is reachable is therefore decided
+     * once per component, from its own nodes and the components its edges lead to.
+     */
+    BitSet sinkReachable() {
+        BitSet reaching = new BitSet(size);
+        // Indices start at 1, so that a freshly allocated table means no node has been visited yet
+        IntTable index = storage.allocate("scc-index", size);
+        IntTable lowLink = storage.allocate("scc-low-link", size);
+        BitSet onStack = new BitSet(size);
+        IntTable stack = storage.allocate("scc-stack", size);
+        int stackSize = 0;
+        IntTable frameNodes = storage.allocate("scc-frame-nodes", size);
+        IntTable frameEdges = storage.allocate("scc-frame-edges", size);
+        int frames = 0;
+        int nextIndex = 0;
+        for (int root = 0; root < size; root++) {
+            if (index.get(root) != 0) {
+                continue;
+            }
+            index.set(root, ++nextIndex);
+            lowLink.set(root, nextIndex);
+            stack.set(stackSize++, root);
+            onStack.set(root);
+            frameNodes.set(frames, root);
+            frameEdges.set(frames++, edgeOffsets.get(root));
+            while (frames > 0) {
+                int node = frameNodes.get(frames - 1);
+                int edge = frameEdges.get(frames - 1);
+                if (edge < edgeOffsets.get(node + 1)) {
+                    frameEdges.set(frames - 1, edge + 1);
+                    int target = edgeTargets.get(edge);
+                    if (index.get(target) == 0) {
+                        index.set(target, ++nextIndex);
+                        lowLink.set(target, nextIndex);
+                        stack.set(stackSize++, target);
+                        onStack.set(target);
+                        frameNodes.set(frames, target);
+                        frameEdges.set(frames++, edgeOffsets.get(target));
+                    } else if (onStack.get(target)) {
+                        lowLink.set(node, Math.min(lowLink.get(node), index.get(target)));
+                    }
+                    continue;
+                }
+                frames--;
+                if (lowLink.get(node) == index.get(node)) {
+                    int first = stackSize;
+                    do {
+                        first--;
+                    } while (stack.get(first) != node);
+                    boolean reachesSink = false;
+                    for (int i = first; i < stackSize && !reachesSink; i++) {
+                        int member = stack.get(i);
+                        reachesSink = (flags.get(member) & FlowSummary.SINK) != 0;
+                        for (int e = edgeOffsets.get(member); e < edgeOffsets.get(member + 1) && !reachesSink; e++) {
+                            // Every component outside of this one that an edge leads to is already complete
+                            reachesSink = reaching.get(edgeTargets.get(e));
+                        }
+                    }
+                    for (int i = first; i < stackSize; i++) {
+                        onStack.clear(stack.get(i));
+                        if (reachesSink) {
+                            reaching.set(stack.get(i));
+                        }
+                    }
+                    stackSize = first;
+                }
+                if (frames > 0) {
+                    int parent = frameNodes.get(frames - 1);
+                    lowLink.set(parent, Math.min(lowLink.get(parent), lowLink.get(node)));
+                }
+            }
+        }
+        return reaching;
+    }
+
+    /**
+     * Every node is on the depth first path at most once per source, and so are its edges, which bounds the stacks
+     * by the size of the graph. They are allocated once and reused for every source.
+     */
+    private class Pruning {
+        private final BitSet sinkReachable;
+        private final BitSet visited = new BitSet();
+        private final BitSet removed = new BitSet();
+
+        /**
+         * The edges removed while pruning from the current source.
+         */
+        private final IntTable removedEdges = storage.allocate("removed-edges", edgeCount);
+        private int removedEdgeCount;
+
+        /**
+         * The live edges of every node on the depth first path. The edges of a frame start where those of the frame
+         * below it end.
+         */
+        private final IntTable edgeStack = storage.allocate("edge-stack", edgeCount);
+        private final IntTable frameNextEdges = storage.allocate("frame-next-edges", size);
+        private final IntTable frameEnds = storage.allocate("frame-ends", size);
+
+        /**
+         * The frames that pushed a method call onto the call stack.
+         */
+        private final BitSet framesWithCall = new BitSet();
+
+        private final IntTable callStack = storage.allocate("call-stack", size);
+        private final IntTable toVisit = storage.allocate("to-visit", size);
+
+        Pruning(BitSet sinkReachable) {
+            this.sinkReachable = sinkReachable;
+        }
+
+        /**
+         * Depth first from the source, keeping track of the method calls the flow has entered through their
+         * arguments. A return value only flows back to one of those calls, unless the flow started inside the method.
+         */
+        void prune(int source) {
+            visited.clear();
+            visited.set(source);
+            int callStackSize = 0;
+            framesWithCall.clear();
+            if ((flags.get(source) & FlowSummary.ARGUMENT) != 0) {
+                callStack.set(callStackSize++, callSites.get(source));
+                framesWithCall.set(0);
+            }
+            int frames = pushFrame(0, source);
+            while (frames > 0) {
+                int next = frameNextEdges.get(frames - 1);
+                if (next == frameEnds.get(frames - 1)) {
+                    frames--;
+                    if (framesWithCall.get(frames)) {
+                        callStackSize--;
+                    }
+                    continue;
+                }
+                frameNextEdges.set(frames - 1, next + 1);
+                int target = edgeTargets.get(edgeStack.get(next));
+                pruneReturnEdges(target, callStackSize);
+                if (visited.get(target)) {
+                    continue;
+                }
+                visited.set(target);
+                framesWithCall.clear(frames);
+                if ((flags.get(target) & FlowSummary.ARGUMENT) != 0) {
+                    callStack.set(callStackSize++, callSites.get(target));
+                    framesWithCall.set(frames);
+                }
+                frames = pushFrame(frames, target);
+            }
+        }
+
+        /**
+         * Pushes the edges of the node that are live at this point, which later pruning does not take away from the
+         * frame.
+         */
+        private int pushFrame(int frames, int node) {
+            int start = frames == 0 ? 0 : frameEnds.get(frames - 1);
+            int end = start;
+            for (int edge = edgeOffsets.get(node); edge < edgeOffsets.get(node + 1); edge++) {
+                if (!removed.get(edge) && sinkReachable.get(edgeTargets.get(edge))) {
+                    edgeStack.set(end++, edge);
+                }
+            }
+            frameNextEdges.set(frames, start);
+            frameEnds.set(frames, end);
+            return frames + 1;
+        }
+
+        private void pruneReturnEdges(int node, int callStackSize) {
+            if ((flags.get(node) & FlowSummary.RETURN) == 0 || callStackSize == 0) {
+                return;
+            }
+            for (int edge = edgeOffsets.get(node); edge < edgeOffsets.get(node + 1); edge++) {
+                int target = edgeTargets.get(edge);
+                if ((flags.get(target) & FlowSummary.METHOD_CALL) != 0 && !removed.get(edge) &&
+                    sinkReachable.get(target) &&
+                    !onCallStack(callStackSize, target)) {
+                    removed.set(edge);
+                    removedEdges.set(removedEdgeCount++, edge);
+                }
+            }
+        }
+
+        private boolean onCallStack(int callStackSize, int callSite) {
+            for (int i = 0; i < callStackSize; i++) {
+                if (callStack.get(i) == callSite) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        BitSet reachableFrom(int source) {
+            BitSet reachable = new BitSet();
+            reachable.set(source);
+            toVisit.set(0, source);
+            int count = 1;
+            while (count > 0) {
+                int node = toVisit.get(--count);
+                for (int edge = edgeOffsets.get(node); edge < edgeOffsets.get(node + 1); edge++) {
+                    int target = edgeTargets.get(edge);
+                    if (!removed.get(edge) && sinkReachable.get(target) && !reachable.get(target)) {
+                        reachable.set(target);
+                        toVisit.set(count++, target);
+                    }
+                }
+            }
+            return reachable;
+        }
+
+        /**
+         * The subset of the reachable nodes from which a sink can be reached without leaving the reachable nodes.
+         */
+        BitSet reachingSink(BitSet reachable) {
+            BitSet reaching = new BitSet();
+            int count = 0;
+            for (int node = reachable.nextSetBit(0); node >= 0; node = reachable.nextSetBit(node + 1)) {
+                if ((flags.get(node) & FlowSummary.SINK) != 0) {
+                    reaching.set(node);
+                    toVisit.set(count++, node);
+                }
+            }
+            while (count > 0) {
+                int node = toVisit.get(--count);
+                for (int i = reverseEdgeOffsets.get(node); i < reverseEdgeOffsets.get(node + 1); i++) {
+                    int edge = reverseEdges.get(i);
+                    int source = edgeSources.get(edge);
+                    if (!removed.get(edge) && reachable.get(source) && !reaching.get(source)) {
+                        reaching.set(source);
+                        toVisit.set(count++, source);
+                    }
+                }
+            }
+            return reaching;
+        }
+
+        void reset() {
+            for (int i = 0; i < removedEdgeCount; i++) {
+                removed.clear(removedEdges.get(i));
+            }
+            removedEdgeCount = 0;
+        }
+    }
+
+    /**
+     * Finds every node that a source reaches and that reaches a sink, each along a path on which every return matches
+     * the call it returns from, as computed by {@link GlobalFlowTabulation}. Both paths need not be in the same calling
+     * context, so this over-approximates the nodes on a single such path from a source to a sink.
+     */
+    Participants findParticipantsByTabulation() {
+        BitSet sources = new BitSet(size);
+        for (int node = 0; node < size; node++) {
+            if (is(node, FlowSummary.SOURCE)) {
+                sources.set(node);
+            }
+        }
+        BitSet reachable = new GlobalFlowTabulation(this, true, null).solve(sources);
+        BitSet sinks = new BitSet(size);
+        for (int node = reachable.nextSetBit(0); node >= 0; node = reachable.nextSetBit(node + 1)) {
+            if (is(node, FlowSummary.SINK)) {
+                sinks.set(node);
+            }
+        }
+        BitSet participants = new GlobalFlowTabulation(this, false, reachable).solve(sinks);
+        participants.and(reachable);
+        return toParticipants(participants);
+    }
+
+    private Participants toParticipants(BitSet participants) {
+        Map<Path, Set<UUID>> idsBySourcePath = new HashMap<>();
+        Set<UUID> ids = new HashSet<>();
+        int summary = 0;
+        for (int node = participants.nextSetBit(0); node >= 0; node = participants.nextSetBit(node + 1)) {
+            while (node >= summaryOffsets[summary + 1]) {
+                summary++;
+            }
+            UUID id = getId(node);
+            ids.add(id);
+            idsBySourcePath.computeIfAbsent(sourcePaths[summary], __ -> new HashSet<>()).add(id);
+        }
+        return new Participants(ids, idsBySourcePath);
+    }
+
+    /**
+     * The nodes participating in a flow from a source to a sink, which are looked up again by {@link Cursor} when
+     * rendering.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static final class Participants {
+        private final Set<UUID> ids;
+        private final Map<Path, Set<UUID>> idsBySourcePath;
+
+        boolean isEmpty() {
+            return ids.isEmpty();
+        }
+
+        boolean contains(Cursor cursor) {
+            Object value = cursor.getValue();
+            if (!(value instanceof J) || !ids.contains(((J) value).getId())) {
+                return false;
+            }
+            JavaSourceFile sourceFile = cursor.firstEnclosing(JavaSourceFile.class);
+            return sourceFile != null &&
+                   idsBySourcePath.getOrDefault(sourceFile.getSourcePath(), Collections.emptySet())
+                           .contains(((J) value).getId());
+        }
+    }
+
+    /**
+     * The nodes of the parameters and calls of every method signature, in compressed sparse row form, and the
+     * methods every method is linked to through the call graph. Only the offsets into the node tables are on the heap,
+     * one per method signature and parameter position.
+     */
+    private static final class MethodRoles {
+        private static final int[] NONE = new int[0];
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private int[] callOffsets = NONE;
+        private int[] parameterCounts = NONE;
+
+        /**
+         * The index into {@link #parameterOffsets} of the first parameter of every method.
+         */
+        private int[] firstParameters = NONE;
+        private int[] parameterOffsets = NONE;
+
+        /**
+         * For every method, the implementations overriding it, whose parameters an argument is linked to as well.
+         */
+        private int[][] implementations = new int[0][];
+
+        /**
+         * For every method, the methods it overrides, whose calls a return value is linked to as well.
+         */
+        private int[][] overridden = new int[0][];
+
+        private @Nullable IntTable callNodes;
+        private @Nullable IntTable parameterNodes;
+
+        static MethodRoles count(List<FlowSummary> summaries, @Nullable CallGraph callGraph) {
+            MethodRoles methods = new MethodRoles();
+            for (FlowSummary summary : summaries) {
+                for (String signature : summary.getMethodSignatures()) {
+                    methods.ids.putIfAbsent(signature, methods.ids.size());
+                }
+            }
+            int methodCount = methods.ids.size();
+
+            int[] calls = new int[methodCount];
+            methods.parameterCounts = new int[methodCount];
+            for (FlowSummary summary : summaries) {
+                int[] summaryMethods = methods.ids(summary);
+                for (int role = 0; role < summary.roleCount(); role++) {
+                    int method = summaryMethods[summary.getRoleMethods()[role]];
+                    if (summary.getRoleKinds()[role] == FlowSummary.Role.CALL) {
+                        calls[method]++;
+                    } else if (summary.getRoleKinds()[role] == FlowSummary.Role.PARAMETER) {
+                        methods.parameterCounts[method] = Math.max(methods.parameterCounts[method],
+                                summary.getRolePositions()[role] + 1);
+                    }
+                }
+            }
+            methods.callOffsets = offsets(calls);
+            methods.firstParameters = offsets(methods.parameterCounts);
+
+            int[] parameters = new int[methods.firstParameters[methodCount]];
+            for (FlowSummary summary : summaries) {
+                int[] summaryMethods = methods.ids(summary);
+                for (int role = 0; role < summary.roleCount(); role++) {
+                    if (summary.getRoleKinds()[role] == FlowSummary.Role.PARAMETER) {
+                        parameters[methods.firstParameters[summaryMethods[summary.getRoleMethods()[role]]] +
+                                   summary.getRolePositions()[role]]++;
+                    }
+                }
+            }
+            methods.parameterOffsets = offsets(parameters);
+
+            methods.implementations = new int[methodCount][];
+            methods.overridden = new int[methodCount][];
+            Arrays.fill(methods.implementations, NONE);
+            Arrays.fill(methods.overridden, NONE);
+            if (callGraph != null) {
+                int[] overriddenCounts = new int[methodCount];
+                for (Map.Entry<String, Integer> method : methods.ids.entrySet()) {
+                    int node = callGraph.node(method.getKey());
+                    if (node < 0) {
+                        continue;
+                    }
+                    int[] implementations = new int[callGraph.implementations(node).length];
+                    int count = 0;
+                    for (int implementation : callGraph.implementations(node)) {
+                        Integer id = methods.ids.get(callGraph.signature(implementation));
+                        if (id != null) {
+                            implementations[count++] = id;
+                            overriddenCounts[id]++;
+                        }
+                    }
+                    methods.implementations[method.getValue()] = Arrays.copyOf(implementations, count);
+                }
+                for (int method = 0; method < methodCount; method++) {
+                    if (overriddenCounts[method] > 0) {
+                        methods.overridden[method] = new int[overriddenCounts[method]];
+                    }
+                }
+                for (int method = 0; method < methodCount; method++) {
+                    for (int implementation : methods.implementations[method]) {
+                        methods.overridden[implementation][--overriddenCounts[implementation]] = method;
+                    }
+                }
+            }
+            return methods;
+        }
+
+        private static int[] offsets(int[] counts) {
+            int[] offsets = new int[counts.length + 1];
+            for (int i = 0; i < counts.length; i++) {
+                offsets[i + 1] = offsets[i] + counts[i];
+            }
+            return offsets;
+        }
+
+        /**
+         * The ids of the method signatures of a summary, by their index in the summary.
+         */
+        int[] ids(FlowSummary summary) {
+            String[] signatures = summary.getMethodSignatures();
+            int[] summaryMethods = new int[signatures.length];
+            for (int i = 0; i < signatures.length; i++) {
+                summaryMethods[i] = ids.get(signatures[i]);
+            }
+            return summaryMethods;
+        }
+
+        int roleNodeCount() {
+            return callOffsets[callOffsets.length - 1] + parameterOffsets[parameterOffsets.length - 1];
+        }
+
+        /**
+         * Writes the nodes of every parameter and call to tables in the storage of the graph.
+         */
+        void index(List<FlowSummary> summaries, int[] summaryOffsets, FlowGraphStorage storage) {
+            IntTable calls = storage.allocate("calls", callOffsets[callOffsets.length - 1]);
+            IntTable parameters = storage.allocate("parameters", parameterOffsets[parameterOffsets.length - 1]);
+            int[] nextCall = Arrays.copyOf(callOffsets, callOffsets.length);
+            int[] nextParameter = Arrays.copyOf(parameterOffsets, parameterOffsets.length);
+            for (int i = 0; i < summaries.size(); i++) {
+                FlowSummary summary = summaries.get(i);
+                int[] summaryMethods = ids(summary);
+                for (int role = 0; role < summary.roleCount(); role++) {
+                    int method = summaryMethods[summary.getRoleMethods()[role]];
+                    int node = summaryOffsets[i] + summary.getRoleNodes()[role];
+                    if (summary.getRoleKinds()[role] == FlowSummary.Role.CALL) {
+                        calls.set(nextCall[method]++, node);
+                    } else if (summary.getRoleKinds()[role] == FlowSummary.Role.PARAMETER) {
+                        parameters.set(nextParameter[firstParameters[method] + summary.getRolePositions()[role]]++, node);
+                    }
+                }
+            }
+            callNodes = calls;
+            parameterNodes = parameters;
+        }
+
+        /**
+         * The number of nodes in other methods that a role links to: the parameters for an argument, the calls for a
+         * return value.
+         */
+        int linkedCount(FlowSummary.Role kind, int method, int position) {
+            int count = 0;
+            switch (kind) {
+                case ARGUMENT:
+                    count += parameterCount(method, position);
+                    for (int implementation : implementations[method]) {
+                        count += parameterCount(implementation, position);
+                    }
+                    return count;
+                case RETURN:
+                    count += callOffsets[method + 1] - callOffsets[method];
+                    for (int overriddenMethod : overridden[method]) {
+                        count += callOffsets[overriddenMethod + 1] - callOffsets[overriddenMethod];
+                    }
+                    return count;
+                default:
+                    return 0;
+            }
+        }
+
+        /**
+         * Adds the nodes counted by {@link #linkedCount(FlowSummary.Role, int, int)} to the targets, as {@link #CALL}
+         * or {@link #RETURN} edges.
+         */
+        void link(FlowSummary.Role kind, int method, int position, Targets targets) {
+            switch (kind) {
+                case ARGUMENT:
+                    addParameters(method, position, targets);
+                    for (int implementation : implementations[method]) {
+                        addParameters(implementation, position, targets);
+                    }
+                    break;
+                case RETURN:
+                    addCalls(method, targets);
+                    for (int overriddenMethod : overridden[method]) {
+                        addCalls(overriddenMethod, targets);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private int parameterCount(int method, int position) {
+            if (position >= parameterCounts[method]) {
+                return 0;
+            }
+            int parameter = firstParameters[method] + position;
+            return parameterOffsets[parameter + 1] - parameterOffsets[parameter];
+        }
+
+        private void addParameters(int method, int position, Targets targets) {
+            assert parameterNodes != null : "The nodes are only linked once they are indexed";
+            if (position < parameterCounts[method]) {
+                int parameter = firstParameters[method] + position;
+                for (int i = parameterOffsets[parameter]; i < parameterOffsets[parameter + 1]; i++) {
+                    targets.add((long) parameterNodes.get(i) << 2 | CALL);
+                }
+            }
+        }
+
+        private void addCalls(int method, Targets targets) {
+            assert callNodes != null : "The nodes are only linked once they are indexed";
+            for (int i = callOffsets[method]; i < callOffsets[method + 1]; i++) {
+                targets.add((long) callNodes.get(i) << 2 | RETURN);
+            }
+        }
+    }
+
+    /**
+     * The targets of the edges of a single node, reused for every node.
+     */
+    private static final class Targets {
+        private long[] values = new long[16];
+        private int count;
+
+        void add(long target) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = target;
+        }
+
+        void sort() {
+            Arrays.sort(values, 0, count);
+        }
+
+        void clear() {
+            count = 0;
+        }
+    }
+}
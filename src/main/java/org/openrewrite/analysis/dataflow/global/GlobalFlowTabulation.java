@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.dataflow.global;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * An IFDS style tabulation over a {@link GlobalFlowGraph}, with a single data flow fact: whether a node carries flow.
+ * <p>
+ * Flow is only expanded from the seed nodes it is given. Entering a method through a {@link GlobalFlowGraph#CALL}
+ * edge starts a new context, identified by the entry node. The exits reached within a context form the summary
+ * of that entry, which is reused by every later call through the same entry. Leaving a context through a
+ * {@link GlobalFlowGraph#RETURN} edge is only possible back to the call site the context was entered from, unless
+ * the flow started within the method itself, in which case it returns to every caller.
+ * <p>
+ * Run {@link #forward forward} from the sources, this finds the nodes that some source reaches along a realizable
+ * path. Run backward from the sinks, with {@link GlobalFlowGraph#RETURN} edges entering and {@link GlobalFlowGraph#CALL}
+ * edges leaving a context, it finds the nodes that reach some sink along a realizable path. The intersection of both
+ * over-approximates the nodes on a realizable path from a source to a sink: a node may be reached from a source in
+ * one calling context, and reach a sink only in another.
+ */
+final class GlobalFlowTabulation {
+    private static final int UNBALANCED = -1;
+
+    private final GlobalFlowGraph graph;
+    private final boolean forward;
+    private final @Nullable BitSet within;
+
+    private final Set<Long> pathEdges = new HashSet<>();
+    private final Deque<Long> worklist = new ArrayDeque<>();
+    private final BitSet reached = new BitSet();
+
+    /**
+     * For every entry, the contexts and call sites it was entered from.
+     */
+    private final Map<Integer, Set<Long>> callers = new HashMap<>();
+
+    /**
+     * For every entry, the exits reached from it.
+     */
+    private final Map<Integer, Set<Integer>> exits = new HashMap<>();
+
+    /**
+     * @param within When not null, nodes outside of this set are never expanded to.
+     */
+    GlobalFlowTabulation(GlobalFlowGraph graph, boolean forward, @Nullable BitSet within) {
+        this.graph = graph;
+        this.forward = forward;
+        this.within = within;
+    }
+
+    BitSet solve(BitSet seeds) {
+        for (int seed = seeds.nextSetBit(0); seed >= 0; seed = seeds.nextSetBit(seed + 1)) {
+            propagate(UNBALANCED, seed);
+        }
+        while (!worklist.isEmpty()) {
+            long pathEdge = worklist.pop();
+            int context = (int) (pathEdge >> 32);
+            int node = (int) pathEdge;
+            for (int i = start(node); i < end(node); i++) {
+                int edge = edge(i);
+                int next = next(edge);
+                if (within != null && !within.get(next)) {
+                    continue;
+                }
+                int kind = graph.edgeKind(edge);
+                if (kind == entryKind()) {
+                    enter(context, node, next);
+                } else if (kind == exitKind()) {
+                    exit(context, node, next);
+                } else {
+                    propagate(context, next);
+                }
+            }
+        }
+        return reached;
+    }
+
+    private void enter(int context, int node, int entry) {
+        int site = forward ? graph.callSite(node) : node;
+        if (callers.computeIfAbsent(entry, __ -> new HashSet<>()).add(pathEdge(context, site))) {
+            for (int exit : exits.getOrDefault(entry, Collections.emptySet())) {
+                returnTo(exit, site, context);
+            }
+        }
+        propagate(entry, entry);
+    }
+
+    private void exit(int context, int node, int next) {
+        if (context == UNBALANCED) {
+            // The flow started within this method, so it may return to any of its callers
+            propagate(UNBALANCED, next);
+        } else if (exits.computeIfAbsent(context, __ -> new HashSet<>()).add(node)) {
+            for (long caller : callers.getOrDefault(context, Collections.emptySet())) {
+                returnTo(node, (int) caller, (int) (caller >> 32));
+            }
+        }
+    }
+
+    /**
+     * Follows the exit edges of the node that lead back to the given call site.
+     */
+    private void returnTo(int exit, int site, int callerContext) {
+        for (int i = start(exit); i < end(exit); i++) {
+            int edge = edge(i);
+            if (graph.edgeKind(edge) != exitKind()) {
+                continue;
+            }
+            int next = next(edge);
+            if ((forward ? next : graph.callSite(next)) == site && (within == null || within.get(next))) {
+                propagate(callerContext, next);
+            }
+        }
+    }
+
+    private void propagate(int context, int node) {
+        if (pathEdges.add(pathEdge(context, node))) {
+            reached.set(node);
+            worklist.push(pathEdge(context, node));
+        }
+    }
+
+    private static long pathEdge(int context, int node) {
+        return (long) context << 32 | (node & 0xFFFFFFFFL);
+    }
+
+    private int entryKind() {
+        return forward ? GlobalFlowGraph.CALL : GlobalFlowGraph.RETURN;
+    }
+
+    private int exitKind() {
+        return forward ? GlobalFlowGraph.RETURN : GlobalFlowGraph.CALL;
+    }
+
+    private int start(int node) {
+        return forward ? graph.edgeStart(node) : graph.reverseEdgeStart(node);
+    }
+
+    private int end(int node) {
+        return forward ? graph.edgeEnd(node) : graph.reverseEdgeEnd(node);
+    }
+
+    private int edge(int index) {
+        return forward ? index : graph.reverseEdge(index);
+    }
+
+    private int next(int edge) {
+        return forward ? graph.edgeTarget(edge) : graph.edgeSource(edge);
+    }
+}
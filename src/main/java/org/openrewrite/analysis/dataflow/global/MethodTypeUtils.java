@@ -16,25 +16,32 @@
 package org.openrewrite.analysis.dataflow.global;
 
 import lombok.NoArgsConstructor;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.java.tree.JavaType;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
 final class MethodTypeUtils {
+    /**
+     * The method, or the generic method it is a parameterization of, as declared by its declaring type. Use a
+     * {@link DeclarationMethods} to resolve the calls of many source files.
+     */
     static JavaType.Method getDeclarationMethod(JavaType.Method method) {
+        return findDeclarationMethod(method, MethodTypeUtils::declaredMethods);
+    }
+
+    private static JavaType.Method findDeclarationMethod(JavaType.Method method, DeclaredMethods declaredMethods) {
         // Look into the method's declaring class to check and see if there is an equivalent generic method declaration
-        for (JavaType.Method declaredMethod : method.getDeclaringType().getMethods()) {
+        for (JavaType.Method declaredMethod : declaredMethods.find(method.getDeclaringType(), method.getName(), method.getParameterTypes().size())) {
             // If we find an exact match, return that immediately.
             if (method.equals(declaredMethod)) {
                 return declaredMethod;
             }
 
             // Compare components that will not be different between the two methods, regardless of generics
-            if (!declaredMethod.getName().equals(method.getName()) ||
-                declaredMethod.getParameterTypes().size() != method.getParameterTypes().size() ||
-                !declaredMethod.getFlags().equals(method.getFlags())) {
+            if (!declaredMethod.getFlags().equals(method.getFlags())) {
                 continue;
             }
             // Try to convert the declared generic method
@@ -46,11 +53,14 @@ static JavaType.Method getDeclarationMethod(JavaType.Method method) {
                 continue;
             }
             // Now solve for each parameter
-            fj.data.List<JavaType> declaredParameters = fj.data.List.iterableList(declaredMethod.getParameterTypes());
-            fj.data.List<JavaType> parameters = fj.data.List.iterableList(method.getParameterTypes());
-            fj.data.List<JavaType> declaredParametersSolved = parameters.zipWith(declaredParameters, solver::solve);
-            // If the solved parameters are the same as the method's parameters, then we have a match
-            if (declaredParametersSolved.toJavaList().equals(method.getParameterTypes())) {
+            List<JavaType> parameters = method.getParameterTypes();
+            List<JavaType> declaredParameters = declaredMethod.getParameterTypes();
+            boolean solved = true;
+            for (int i = 0; i < parameters.size() && solved; i++) {
+                // If the solved parameters are the same as the method's parameters, then we have a match
+                solved = solver.solve(parameters.get(i), declaredParameters.get(i)).equals(parameters.get(i));
+            }
+            if (solved) {
                 return declaredMethod;
             }
             // Otherwise, keep looking
@@ -59,6 +69,115 @@ static JavaType.Method getDeclarationMethod(JavaType.Method method) {
         return method;
     }
 
+    /**
+     * The methods of the declaring type with the given name and number of parameters, in declaration order.
+     */
+    private static List<JavaType.Method> declaredMethods(JavaType.FullyQualified declaringType, String name, int arity) {
+        List<JavaType.Method> methods = new ArrayList<>(1);
+        for (JavaType.Method declaredMethod : declaringType.getMethods()) {
+            if (declaredMethod.getName().equals(name) && declaredMethod.getParameterTypes().size() == arity) {
+                methods.add(declaredMethod);
+            }
+        }
+        return methods;
+    }
+
+    private static Map<String, List<JavaType.Method>> declaredMethodsByNameAndArity(JavaType.FullyQualified declaringType) {
+        Map<String, List<JavaType.Method>> methods = new HashMap<>();
+        for (JavaType.Method declaredMethod : declaringType.getMethods()) {
+            methods.computeIfAbsent(declaredMethod.getName() + '/' + declaredMethod.getParameterTypes().size(),
+                    __ -> new ArrayList<>(1)).add(declaredMethod);
+        }
+        return methods;
+    }
+
+    @FunctionalInterface
+    private interface DeclaredMethods {
+        List<JavaType.Method> find(JavaType.FullyQualified declaringType, String name, int arity);
+    }
+
+    /**
+     * A signature of the method which, unlike the {@link JavaType.Method} instance itself,
+     * is stable across source files and across runs.
+     */
+    static String signature(JavaType.Method method) {
+        StringJoiner parameters = new StringJoiner(",", "(", ")");
+        for (JavaType parameterType : method.getParameterTypes()) {
+            parameters.add(typeName(parameterType));
+        }
+        return typeName(method.getDeclaringType()) + "#" + method.getName() + parameters;
+    }
+
+    static String typeName(JavaType type) {
+        return type instanceof JavaType.FullyQualified ?
+                ((JavaType.FullyQualified) type).getFullyQualifiedName() :
+                String.valueOf(type);
+    }
+
+    /**
+     * Resolves methods to their declarations like {@link #getDeclarationMethod(JavaType.Method)}, caching the
+     * declarations for the lifetime of one analysis, which may resolve the calls of many source files concurrently.
+     * The types are only ever compared by identity.
+     */
+    static final class DeclarationMethods {
+        /**
+         * Bounds both caches below. The same call site types recur across many source files, so clearing a cache
+         * once it is full is enough to keep it from growing with the size of the repository.
+         */
+        static final int MAX_CACHE_SIZE = 8192;
+
+        private final Map<Identity<JavaType.Method>, JavaType.Method> declarationMethods = new ConcurrentHashMap<>();
+        private final Map<Identity<JavaType.FullyQualified>, Map<String, List<JavaType.Method>>> methodsByNameAndArity =
+                new ConcurrentHashMap<>();
+
+        JavaType.Method getDeclarationMethod(JavaType.Method method) {
+            Identity<JavaType.Method> key = new Identity<>(method);
+            JavaType.Method declarationMethod = declarationMethods.get(key);
+            if (declarationMethod == null) {
+                declarationMethod = findDeclarationMethod(method, this::declaredMethods);
+                if (declarationMethods.size() >= MAX_CACHE_SIZE) {
+                    declarationMethods.clear();
+                }
+                declarationMethods.put(key, declarationMethod);
+            }
+            return declarationMethod;
+        }
+
+        private List<JavaType.Method> declaredMethods(JavaType.FullyQualified declaringType, String name, int arity) {
+            Identity<JavaType.FullyQualified> key = new Identity<>(declaringType);
+            Map<String, List<JavaType.Method>> methods = methodsByNameAndArity.get(key);
+            if (methods == null) {
+                methods = declaredMethodsByNameAndArity(declaringType);
+                if (methodsByNameAndArity.size() >= MAX_CACHE_SIZE) {
+                    methodsByNameAndArity.clear();
+                }
+                methodsByNameAndArity.put(key, methods);
+            }
+            return methods.getOrDefault(name + '/' + arity, Collections.emptyList());
+        }
+    }
+
+    /**
+     * A key that compares the types by identity, as {@link java.util.IdentityHashMap} does, in a concurrent map.
+     */
+    private static final class Identity<T> {
+        private final T value;
+
+        Identity(T value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            return o instanceof Identity && ((Identity<?>) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+    }
+
     static class JavaTypeGenericTypeSolver {
         private final Map<JavaType.GenericTypeVariable, JavaType> typeVariableMap = new HashMap<>();
 
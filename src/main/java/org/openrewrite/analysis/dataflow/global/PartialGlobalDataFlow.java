@@ -0,0 +1,428 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.dataflow.global;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.analysis.InvocationMatcher;
+import org.openrewrite.analysis.dataflow.DataFlowNode;
+import org.openrewrite.analysis.dataflow.DataFlowNodes;
+import org.openrewrite.analysis.dataflow.DataFlowSpec;
+import org.openrewrite.analysis.dataflow.analysis.FlowGraph;
+import org.openrewrite.analysis.dataflow.analysis.ForwardFlow;
+import org.openrewrite.analysis.trait.expr.Call;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+
+import static java.util.Collections.newSetFromMap;
+
+/**
+ * Builds the {@link FlowSummary} of a single source file, without looking at any other source file.
+ * <p>
+ * The flow graphs are only held on to while the source file is being scanned. Because every source file is
+ * summarized with its own {@link FlowGraph.Factory}, source files can be summarized concurrently.
+ */
+final class PartialGlobalDataFlow {
+    private static final InvocationMatcher MATCHES_ALL = e -> true;
+
+    private final DataFlowSpec spec;
+    private final MethodTypeUtils.DeclarationMethods declarationMethods;
+    private final JMappedFlowGraphFactory flowGraphFactory = new JMappedFlowGraphFactory();
+
+    /**
+     * The pre-order position of every visited element, used to number nodes independently of identity hash codes.
+     */
+    private final Map<J, Integer> ordinals = new IdentityHashMap<>();
+
+    /**
+     * The {@link DataFlowNode#getId() ids} of the nodes that are sources.
+     */
+    private final BitSet sources = new BitSet();
+    private final Map<FlowGraph, List<Parameter>> parameters = new IdentityHashMap<>();
+
+    private PartialGlobalDataFlow(DataFlowSpec spec, MethodTypeUtils.DeclarationMethods declarationMethods) {
+        this.spec = spec;
+        this.declarationMethods = declarationMethods;
+    }
+
+    static FlowSummary summarize(DataFlowSpec spec, MethodTypeUtils.DeclarationMethods declarationMethods,
+                                 JavaSourceFile sourceFile, ExecutionContext ctx, Cursor parent) {
+        PartialGlobalDataFlow partial = new PartialGlobalDataFlow(spec, declarationMethods);
+        partial.new Scanner().visit(sourceFile, ctx, parent);
+        return partial.summarize(sourceFile);
+    }
+
+    /**
+     * The ids of every tree element of the source file, in the pre-order in which the elements are visited.
+     */
+    static List<UUID> treeIdsInPreOrder(JavaSourceFile sourceFile, ExecutionContext ctx, Cursor parent) {
+        List<UUID> ids = new ArrayList<>();
+        Set<J> visited = newSetFromMap(new IdentityHashMap<>());
+        new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J preVisit(J tree, ExecutionContext ctx) {
+                if (visited.add(tree)) {
+                    ids.add(tree.getId());
+                }
+                return super.preVisit(tree, ctx);
+            }
+        }.visit(sourceFile, ctx, parent);
+        return ids;
+    }
+
+    private class Scanner extends JavaVisitor<ExecutionContext> {
+        private final GlobalDataFlowSpec globalDataFlowSpec = new GlobalDataFlowSpec(spec);
+
+        @Override
+        public J preVisit(J tree, ExecutionContext ctx) {
+            ordinals.putIfAbsent(tree, ordinals.size());
+            return super.preVisit(tree, ctx);
+        }
+
+        @Override
+        public J visitExpression(Expression expression, ExecutionContext ctx) {
+            DataFlowNode n = flowGraphFactory.node(getCursor());
+            if (n != null) {
+                FlowGraph source = ForwardFlow.findAllFlows(n, globalDataFlowSpec, flowGraphFactory);
+                if (spec.isSource(n)) {
+                    sources.set(source.getNode().getId());
+                }
+            }
+            return expression;
+        }
+
+        @Override
+        public J visitVariable(J.VariableDeclarations.NamedVariable variable, ExecutionContext ctx) {
+            DataFlowNode n = flowGraphFactory.node(getCursor());
+            if (n != null) {
+                n.asParameter().forEach(p ->
+                        p.getCallable().getMethodType().forEach(m -> {
+                            FlowGraph g = ForwardFlow.findAllFlows(n, globalDataFlowSpec, flowGraphFactory);
+                            parameters.computeIfAbsent(g, __ -> new ArrayList<>(1))
+                                    .add(new Parameter(MethodTypeUtils.signature(m), p.getPosition()));
+                            if (spec.isSource(n)) {
+                                sources.set(g.getNode().getId());
+                            }
+                        }));
+            }
+            return super.visitVariable(variable, ctx);
+        }
+    }
+
+    private FlowSummary summarize(JavaSourceFile sourceFile) {
+        List<FlowGraph> flowGraphs = flowGraphFactory.flowGraphs();
+        flowGraphs.sort(Comparator.comparingInt(g ->
+                ordinals.getOrDefault(g.getNode().getCursor().<J>getValue(), Integer.MAX_VALUE)));
+        // From the id of a node to the position of its flow graph in the summary
+        int[] index = new int[flowGraphFactory.nodes.size()];
+        Arrays.fill(index, -1);
+        for (int i = 0; i < flowGraphs.size(); i++) {
+            index[flowGraphs.get(i).getNode().getId()] = i;
+        }
+
+        int size = flowGraphs.size();
+        int[] flags = new int[size];
+        J[] callSites = new J[size];
+        int[][] edges = new int[size][];
+        List<RoleEntry> roles = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            FlowGraph g = flowGraphs.get(i);
+            flags[i] = classify(g, i, roles);
+            if ((flags[i] & FlowSummary.ARGUMENT) != 0) {
+                callSites[i] = g.getNode().getCursor().getParentTreeCursor().firstEnclosing(MethodCall.class);
+            }
+            edges[i] = edges(g, index);
+        }
+
+        BitSet kept = reachable(edges, roles, flags, false);
+        kept.and(reachable(reverse(edges), roles, flags, true));
+        int[] renumbered = new int[size];
+        Arrays.fill(renumbered, -1);
+        int keptSize = 0;
+        for (int i = kept.nextSetBit(0); i >= 0; i = kept.nextSetBit(i + 1)) {
+            renumbered[i] = keptSize++;
+        }
+
+        int[] keptOrdinals = new int[keptSize];
+        long[] mostSignificantBits = new long[keptSize];
+        long[] leastSignificantBits = new long[keptSize];
+        int[] keptFlags = new int[keptSize];
+        int[] keptCallSites = new int[keptSize];
+        int[] edgeOffsets = new int[keptSize + 1];
+        int edgeCount = 0;
+        for (int i = kept.nextSetBit(0); i >= 0; i = kept.nextSetBit(i + 1)) {
+            for (int target : edges[i]) {
+                if (kept.get(target)) {
+                    edgeCount++;
+                }
+            }
+        }
+        int[] edgeTargets = new int[edgeCount];
+        edgeCount = 0;
+        for (int i = kept.nextSetBit(0); i >= 0; i = kept.nextSetBit(i + 1)) {
+            int node = renumbered[i];
+            J value = flowGraphs.get(i).getNode().getCursor().getValue();
+            keptOrdinals[node] = ordinals.getOrDefault(value, -1);
+            UUID id = value.getId();
+            mostSignificantBits[node] = id.getMostSignificantBits();
+            leastSignificantBits[node] = id.getLeastSignificantBits();
+            keptFlags[node] = flags[i];
+            keptCallSites[node] = callSite(callSites[i], flowGraphFactory.nodes, index, renumbered);
+            for (int target : edges[i]) {
+                if (kept.get(target)) {
+                    edgeTargets[edgeCount++] = renumbered[target];
+                }
+            }
+            edgeOffsets[node + 1] = edgeCount;
+        }
+
+        Map<String, Integer> signatures = new LinkedHashMap<>();
+        List<RoleEntry> keptRoles = new ArrayList<>(roles.size());
+        for (RoleEntry role : roles) {
+            if (kept.get(role.node)) {
+                keptRoles.add(role);
+                signatures.putIfAbsent(role.signature, signatures.size());
+            }
+        }
+        int[] roleNodes = new int[keptRoles.size()];
+        FlowSummary.Role[] roleKinds = new FlowSummary.Role[keptRoles.size()];
+        int[] roleMethods = new int[keptRoles.size()];
+        int[] rolePositions = new int[keptRoles.size()];
+        for (int i = 0; i < keptRoles.size(); i++) {
+            RoleEntry role = keptRoles.get(i);
+            roleNodes[i] = renumbered[role.node];
+            roleKinds[i] = role.kind;
+            roleMethods[i] = signatures.get(role.signature);
+            rolePositions[i] = role.position;
+        }
+
+        return new FlowSummary(
+                sourceFile.getSourcePath(),
+                keptOrdinals,
+                mostSignificantBits,
+                leastSignificantBits,
+                keptFlags,
+                keptCallSites,
+                edgeOffsets,
+                edgeTargets,
+                signatures.keySet().toArray(new String[0]),
+                roleNodes,
+                roleKinds,
+                roleMethods,
+                rolePositions
+        );
+    }
+
+    private int classify(FlowGraph flowGraph, int node, List<RoleEntry> roles) {
+        DataFlowNode n = flowGraph.getNode();
+        J value = n.getCursor().getValue();
+        int flags = 0;
+        if (sources.get(n.getId())) {
+            flags |= FlowSummary.SOURCE;
+        }
+        if (spec.isSink(n)) {
+            flags |= FlowSummary.SINK;
+        }
+        for (Parameter parameter : parameters.getOrDefault(flowGraph, Collections.emptyList())) {
+            roles.add(new RoleEntry(node, FlowSummary.Role.PARAMETER, parameter.signature, parameter.position));
+        }
+        Call call = n.asExprParentOrNull(Call.class);
+        if (call != null) {
+            if (value instanceof MethodCall) {
+                flags |= FlowSummary.METHOD_CALL;
+            }
+            call.getMethodType().forEach(methodType -> roles.add(new RoleEntry(
+                    node,
+                    FlowSummary.Role.CALL,
+                    MethodTypeUtils.signature(declarationMethods.getDeclarationMethod(methodType)),
+                    -1
+            )));
+        }
+        if (MATCHES_ALL.advanced().isAnyArgument(n.getCursor())) {
+            flags |= FlowSummary.ARGUMENT;
+            if (isAnyMethodArgument(n)) {
+                MethodCall methodCall = n.getCursor().getParentTreeCursor().firstEnclosing(MethodCall.class);
+                assert methodCall != null;
+                JavaType.Method methodType = methodCall.getMethodType();
+                if (methodType != null) {
+                    roles.add(new RoleEntry(
+                            node,
+                            FlowSummary.Role.ARGUMENT,
+                            MethodTypeUtils.signature(declarationMethods.getDeclarationMethod(methodType)),
+                            methodCall.getArguments().indexOf(n.getCursor().<Expression>getValue())
+                    ));
+                }
+            }
+        }
+        J.Return aReturn = n.getCursor().firstEnclosing(J.Return.class);
+        if (aReturn != null && Expression.unwrap(aReturn.getExpression()) == value) {
+            flags |= FlowSummary.RETURN;
+            // Get the JavaType.Method for the enclosing body
+            J.MethodDeclaration methodDeclaration = n.getCursor().firstEnclosing(J.MethodDeclaration.class);
+            assert methodDeclaration != null;
+            JavaType.Method methodType = methodDeclaration.getMethodType();
+            if (methodType != null) {
+                roles.add(new RoleEntry(node, FlowSummary.Role.RETURN, MethodTypeUtils.signature(methodType), -1));
+            }
+        }
+        return flags;
+    }
+
+    private int[] edges(FlowGraph flowGraph, int[] index) {
+        DataFlowNode n = flowGraph.getNode();
+        boolean isArgument = isAnyMethodArgument(n);
+        List<FlowGraph> flowGraphEdges = flowGraph.getEdges();
+        int[] targets = new int[flowGraphEdges.size()];
+        int count = 0;
+        for (FlowGraph edge : flowGraphEdges) {
+            // If this is a connection we added to the graph purely for the purposes of Global Data Flow Analysis,
+            // then we can remove it, as long as it was not an additional flow step already
+            if (isArgument &&
+                GlobalDataFlowSpec.isAdditionalGlobalDataFlowStep(n, edge.getNode()) &&
+                !spec.isFlowStep(n, edge.getNode())) {
+                continue;
+            }
+            targets[count++] = index[edge.getNode().getId()];
+        }
+        targets = Arrays.copyOf(targets, count);
+        Arrays.sort(targets);
+        return targets;
+    }
+
+    private static int callSite(@Nullable J methodCall, DataFlowNodes nodes, int[] index, int[] renumbered) {
+        if (methodCall == null) {
+            return FlowSummary.NO_CALL_SITE;
+        }
+        DataFlowNode callNode = nodes.find(methodCall);
+        int node = callNode == null ? -1 : index[callNode.getId()];
+        return node < 0 || renumbered[node] < 0 ? FlowSummary.DETACHED_CALL_SITE : renumbered[node];
+    }
+
+    /**
+     * Forward from sources, parameters and calls, or backward from sinks, arguments and return values.
+     */
+    private static BitSet reachable(int[][] edges, List<RoleEntry> roles, int[] flags, boolean backward) {
+        Deque<Integer> toVisit = new ArrayDeque<>();
+        for (int i = 0; i < flags.length; i++) {
+            if ((flags[i] & (backward ? FlowSummary.SINK : FlowSummary.SOURCE)) != 0) {
+                toVisit.push(i);
+            }
+        }
+        for (RoleEntry role : roles) {
+            boolean entersFile = role.kind == FlowSummary.Role.PARAMETER || role.kind == FlowSummary.Role.CALL;
+            if (entersFile != backward) {
+                toVisit.push(role.node);
+            }
+        }
+        BitSet visited = new BitSet(flags.length);
+        while (!toVisit.isEmpty()) {
+            int node = toVisit.pop();
+            if (!visited.get(node)) {
+                visited.set(node);
+                for (int target : edges[node]) {
+                    toVisit.push(target);
+                }
+            }
+        }
+        return visited;
+    }
+
+    private static int[][] reverse(int[][] edges) {
+        int[] counts = new int[edges.length];
+        for (int[] targets : edges) {
+            for (int target : targets) {
+                counts[target]++;
+            }
+        }
+        int[][] reversed = new int[edges.length][];
+        for (int i = 0; i < edges.length; i++) {
+            reversed[i] = new int[counts[i]];
+            counts[i] = 0;
+        }
+        for (int i = 0; i < edges.length; i++) {
+            for (int target : edges[i]) {
+                reversed[target][counts[target]++] = i;
+            }
+        }
+        return reversed;
+    }
+
+    static boolean isAnyMethodArgument(DataFlowNode node) {
+        return node.isExpr() && MATCHES_ALL.advanced().isAnyArgument(node.getCursor());
+    }
+
+    @Value
+    private static class Parameter {
+        String signature;
+        int position;
+    }
+
+    @Value
+    private static class RoleEntry {
+        int node;
+        FlowSummary.Role kind;
+        String signature;
+        int position;
+    }
+
+    /**
+     * Creates at most one flow graph per node, so that the flows found from every node of the source file are
+     * merged into a single graph.
+     */
+    private static class JMappedFlowGraphFactory implements FlowGraph.Factory {
+        private final DataFlowNodes nodes = new DataFlowNodes();
+
+        /**
+         * The flow graph of every node, by {@link DataFlowNode#getId() id}, or {@code null} for the nodes that no
+         * flow graph was created for.
+         */
+        private final List<@Nullable FlowGraph> flowGraphsById = new ArrayList<>();
+
+        @Override
+        public FlowGraph create(DataFlowNode node) {
+            DataFlowNode interned = nodes.intern(node);
+            int id = interned.getId();
+            while (flowGraphsById.size() <= id) {
+                flowGraphsById.add(null);
+            }
+            FlowGraph flowGraph = flowGraphsById.get(id);
+            if (flowGraph == null) {
+                flowGraph = new FlowGraph(this, interned);
+                flowGraphsById.set(id, flowGraph);
+            }
+            return flowGraph;
+        }
+
+        @Override
+        public @Nullable DataFlowNode node(Cursor cursor) {
+            return nodes.of(cursor);
+        }
+
+        List<FlowGraph> flowGraphs() {
+            List<FlowGraph> flowGraphs = new ArrayList<>(flowGraphsById.size());
+            for (FlowGraph flowGraph : flowGraphsById) {
+                if (flowGraph != null) {
+                    flowGraphs.add(flowGraph);
+                }
+            }
+            return flowGraphs;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.dataflow.global;
+
+import lombok.Value;
+import org.openrewrite.analysis.InvocationMatcher;
+import org.openrewrite.java.internal.TypesInUse;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Global flow only crosses source files through the arguments and return values of methods declared in the scanned
+ * source files. The {@link TypesInUse} of a source file tells which methods it calls and declares, so the source files
+ * that share no such method with a file calling a source method and a file calling a sink method can be left out of
+ * linking without changing the result.
+ * <p>
+ * Only the summary and the method signatures of each source file are kept, never the source file itself. That is
+ * also why every source file is summarized before it is known to be relevant: the summaries of the irrelevant ones
+ * are only spared from linking and pruning.
+ */
+final class RelevantSourceFiles {
+    private final InvocationMatcher sourceMethods;
+    private final InvocationMatcher sinkMethods;
+
+    /**
+     * Whether calls are also linked to the implementations overriding the called method, so that declaring an
+     * implementation connects a source file with the callers of the method it overrides.
+     */
+    private final boolean throughImplementations;
+
+    private final Consumer<Path> skippedListener;
+
+    private final Queue<Candidate> candidates = new ConcurrentLinkedQueue<>();
+
+    RelevantSourceFiles(InvocationMatcher sourceMethods, InvocationMatcher sinkMethods, boolean throughImplementations) {
+        this(sourceMethods, sinkMethods, throughImplementations, sourcePath -> {
+        });
+    }
+
+    RelevantSourceFiles(InvocationMatcher sourceMethods, InvocationMatcher sinkMethods, boolean throughImplementations,
+                        Consumer<Path> skippedListener) {
+        this.sourceMethods = sourceMethods;
+        this.sinkMethods = sinkMethods;
+        this.throughImplementations = throughImplementations;
+        this.skippedListener = skippedListener;
+    }
+
+    void add(JavaSourceFile sourceFile, FlowSummary summary, MethodTypeUtils.DeclarationMethods declarationMethods) {
+        TypesInUse typesInUse = sourceFile.getTypesInUse();
+        Set<String> declared = new HashSet<>();
+        for (JavaType.Method method : typesInUse.getDeclaredMethods()) {
+            declared.add(MethodTypeUtils.signature(method));
+            if (throughImplementations) {
+                for (JavaType.Method overridden : CallGraph.overriddenMethods(method)) {
+                    declared.add(MethodTypeUtils.signature(overridden));
+                }
+            }
+        }
+        Set<String> used = new HashSet<>();
+        boolean callsSourceMethod = false;
+        boolean callsSinkMethod = false;
+        for (JavaType.Method method : typesInUse.getUsedMethods()) {
+            used.add(MethodTypeUtils.signature(declarationMethods.getDeclarationMethod(method)));
+            callsSourceMethod |= sourceMethods.matches(method);
+            callsSinkMethod |= sinkMethods.matches(method);
+        }
+        candidates.add(new Candidate(summary, declared, used, callsSourceMethod, callsSinkMethod));
+    }
+
+    /**
+     * Groups the source files that declare a method with the source files that declare or call the same method, and
+     * keeps the groups which call both a source method and a sink method. The source files of all other groups are
+     * reported to the listener.
+     */
+    Selection select() {
+        List<Candidate> files = new ArrayList<>(candidates);
+        int[] groups = new int[files.size()];
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = i;
+        }
+
+        Map<String, Integer> declaringFiles = new HashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            for (String signature : files.get(i).declared) {
+                Integer other = declaringFiles.putIfAbsent(signature, i);
+                if (other != null) {
+                    union(groups, i, other);
+                }
+            }
+        }
+        for (int i = 0; i < files.size(); i++) {
+            for (String signature : files.get(i).used) {
+                Integer declaring = declaringFiles.get(signature);
+                if (declaring != null) {
+                    union(groups, i, declaring);
+                }
+            }
+        }
+
+        boolean[] callsSourceMethod = new boolean[groups.length];
+        boolean[] callsSinkMethod = new boolean[groups.length];
+        for (int i = 0; i < files.size(); i++) {
+            int group = find(groups, i);
+            callsSourceMethod[group] |= files.get(i).callsSourceMethod;
+            callsSinkMethod[group] |= files.get(i).callsSinkMethod;
+        }
+
+        List<FlowSummary> relevant = new ArrayList<>();
+        Set<Path> skipped = new HashSet<>();
+        for (int i = 0; i < files.size(); i++) {
+            int group = find(groups, i);
+            if (callsSourceMethod[group] && callsSinkMethod[group]) {
+                relevant.add(files.get(i).summary);
+            } else {
+                skipped.add(files.get(i).summary.getSourcePath());
+            }
+        }
+        candidates.clear();
+        skipped.forEach(skippedListener);
+        return new Selection(relevant, skipped);
+    }
+
+    private static int find(int[] groups, int i) {
+        while (groups[i] != i) {
+            groups[i] = groups[groups[i]];
+            i = groups[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] groups, int a, int b) {
+        int rootA = find(groups, a);
+        int rootB = find(groups, b);
+        if (rootA != rootB) {
+            groups[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    @Value
+    static class Candidate {
+        FlowSummary summary;
+        Set<String> declared;
+        Set<String> used;
+        boolean callsSourceMethod;
+        boolean callsSinkMethod;
+    }
+
+    @Value
+    static class Selection {
+        List<FlowSummary> relevant;
+        Set<Path> skipped;
+    }
+}
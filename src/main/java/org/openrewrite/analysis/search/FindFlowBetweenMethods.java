@@ -24,9 +24,13 @@
 import org.openrewrite.analysis.dataflow.DataFlowSpec;
 import org.openrewrite.analysis.dataflow.TaintFlowSpec;
 import org.openrewrite.analysis.dataflow.global.GlobalDataFlow;
+import org.openrewrite.analysis.dataflow.global.GlobalDataFlowSettings;
+import org.openrewrite.analysis.table.SkippedSourceFiles;
 import org.openrewrite.analysis.trait.expr.Call;
 import org.openrewrite.java.MethodMatcher;
 
+import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /**
@@ -59,6 +63,8 @@ public class FindFlowBetweenMethods extends ScanningRecipe<GlobalDataFlow.Accumu
     @Nullable String flow;
 
 
+    transient SkippedSourceFiles skippedSourceFiles = new SkippedSourceFiles(this);
+
     String displayName = "Finds flow between two methods";
 
     String description = "Takes two patterns for the start/end methods to find flow between.";
@@ -88,6 +94,16 @@ public GlobalDataFlow.Accumulator getInitialValue(ExecutionContext ctx) {
 
 
         String flow = this.flow == null ? "Data" : this.flow;
+        GlobalDataFlowSettings settings = GlobalDataFlowSettings.get(ctx).withSpecFingerprint(String.join("|",
+                getClass().getName(),
+                startMethodPattern,
+                String.valueOf(startMatchOverrides),
+                endMethodPattern,
+                String.valueOf(endMatchOverrides),
+                target,
+                flow
+        ));
+        Consumer<Path> skipped = sourcePath -> skippedSourceFiles.insertRow(ctx, new SkippedSourceFiles.Row(sourcePath.toString()));
         if ("Taint".equals(flow)) {
             return GlobalDataFlow.accumulator(new TaintFlowSpec() {
 
@@ -100,7 +116,7 @@ public boolean isSource(DataFlowNode srcNode) {
                 public boolean isSink(DataFlowNode sinkNode) {
                     return sinkMatcher.test(sinkNode.getCursor());
                 }
-            });
+            }, settings, startMatcher, endMatcher, skipped);
         }
         return GlobalDataFlow.accumulator(new DataFlowSpec() {
 
@@ -113,7 +129,7 @@ public boolean isSource(DataFlowNode srcNode) {
             public boolean isSink(DataFlowNode sinkNode) {
                 return sinkMatcher.test(sinkNode.getCursor());
             }
-        });
+        }, settings, startMatcher, endMatcher, skipped);
     }
 
     private static boolean isSource(DataFlowNode srcNode, InvocationMatcher startMatcher) {
@@ -131,6 +147,15 @@ public TreeVisitor<?, ExecutionContext> getScanner(GlobalDataFlow.Accumulator ac
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor(GlobalDataFlow.Accumulator acc) {
-        return acc.renderer();
+        TreeVisitor<?, ExecutionContext> renderer = acc.renderer();
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile && acc.isSkipped((SourceFile) tree)) {
+                    return tree;
+                }
+                return renderer.visit(tree, ctx, getCursor());
+            }
+        };
     }
 }
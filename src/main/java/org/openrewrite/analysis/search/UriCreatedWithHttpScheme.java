@@ -74,7 +74,7 @@ public TreeVisitor<?, ExecutionContext> getVisitor() {
             @Override
             public J.Literal visitLiteral(J.Literal literal, ExecutionContext ctx) {
                 J.Literal l = super.visitLiteral(literal, ctx);
-                if (Dataflow.startingAt(getCursor()).findSinks(INSECURE_URI_CREATE).isSome()) {
+                if (Dataflow.startingAt(getCursor()).findSinks(INSECURE_URI_CREATE, ctx).isSome()) {
                     //noinspection ConstantConditions
                     return l.withValue(l.getValue().toString().replace("http://", "https://"))
                             .withValueSource(l.getValueSource().replace("http://", "https://"));
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.trait;
+
+import fj.data.Validation;
+import org.openrewrite.Cursor;
+import org.openrewrite.analysis.trait.util.TraitErrors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tries the factories in order, but only those that {@link TraitFactory#appliesTo(Class) apply} to the type of the
+ * tree, as selected once per tree type.
+ */
+final class DispatchingTraitFactory<T extends Top> implements TraitFactory<T> {
+    private final ClassValue<Dispatch<T>> dispatches;
+
+    DispatchingTraitFactory(Class<T> traitType, TraitFactory<? extends T>[] factories) {
+        this.dispatches = new ClassValue<Dispatch<T>>() {
+            @Override
+            protected Dispatch<T> computeValue(Class<?> treeType) {
+                List<TraitFactory<? extends T>> applicable = new ArrayList<>(factories.length);
+                for (TraitFactory<? extends T> factory : factories) {
+                    if (factory.appliesTo(treeType)) {
+                        applicable.add(factory);
+                    }
+                }
+                @SuppressWarnings("unchecked")
+                TraitFactory<? extends T>[] array = applicable.toArray(new TraitFactory[0]);
+                return new Dispatch<>(array, Validation.fail(TraitErrors.fromSingleError(() ->
+                        traitType.getSimpleName() + " can not be created from " + treeType)));
+            }
+        };
+    }
+
+    @Override
+    public Validation<TraitErrors, T> viewOf(Cursor cursor) {
+        Dispatch<T> dispatch = dispatches.get(cursor.getValue().getClass());
+        TraitFactory<? extends T>[] factories = dispatch.factories;
+        if (factories.length == 0) {
+            return dispatch.notApplicable;
+        }
+        if (factories.length == 1) {
+            @SuppressWarnings("unchecked")
+            Validation<TraitErrors, T> view = (Validation<TraitErrors, T>) factories[0].viewOf(cursor);
+            return view;
+        }
+        TraitErrors errors = null;
+        for (TraitFactory<? extends T> factory : factories) {
+            @SuppressWarnings("unchecked")
+            Validation<TraitErrors, T> view = (Validation<TraitErrors, T>) factory.viewOf(cursor);
+            if (view.isSuccess()) {
+                return view;
+            }
+            errors = errors == null ? view.fail() : TraitErrors.semigroup.sum(errors, view.fail());
+        }
+        assert errors != null;
+        return Validation.fail(errors);
+    }
+
+    @Override
+    public boolean appliesTo(Class<?> treeType) {
+        return dispatches.get(treeType).factories.length > 0;
+    }
+
+    private static final class Dispatch<T extends Top> {
+        final TraitFactory<? extends T>[] factories;
+        final Validation<TraitErrors, T> notApplicable;
+
+        Dispatch(TraitFactory<? extends T>[] factories, Validation<TraitErrors, T> notApplicable) {
+            this.factories = factories;
+            this.notApplicable = notApplicable;
+        }
+    }
+}
@@ -16,7 +16,6 @@
 package org.openrewrite.analysis.trait;
 
 import fj.data.NonEmptyList;
-import fj.data.Option;
 import fj.data.Validation;
 import org.openrewrite.Cursor;
 import org.openrewrite.analysis.trait.util.TraitErrors;
@@ -26,6 +25,18 @@
 public interface TraitFactory<T extends Top> {
     Validation<TraitErrors, T> viewOf(Cursor cursor);
 
+    /**
+     * Whether a view can be created of trees of this type at all. Factories that can only be created from certain
+     * trees override this so that {@link #dispatching(Class, TraitFactory[]) dispatching} factories never try them
+     * on any other tree.
+     *
+     * @param treeType The concrete type of the tree a cursor points at.
+     * @return {@code false} only if {@link #viewOf(Cursor)} always fails for trees of this type.
+     */
+    default boolean appliesTo(Class<?> treeType) {
+        return true;
+    }
+
     default Validation<TraitErrors, T> firstEnclosingViewOf(Cursor cursor) {
         Iterator<Cursor> cursors = cursor.getPathAsCursors();
         TraitErrors errors = null;
@@ -46,11 +57,28 @@ default Validation<TraitErrors, T> firstEnclosingViewOf(Cursor cursor) {
         }
         return Validation.fail(
                 TraitErrors.fromSingleError(
-                        "No view found for cursor " + cursor
+                        () -> "No view found for cursor " + cursor
                 )
         );
     }
 
+    /**
+     * A factory that creates the first view that any of the given factories creates, trying only the factories that
+     * {@link #appliesTo(Class) apply} to the type of the tree, which are selected once per tree type.
+     *
+     * @param traitType The type of trait the factories create views of.
+     * @param factories The factories to try to create a view with, in order.
+     * @param <T>       The type of trait to find a view of.
+     * @return A factory that dispatches on the type of the tree the cursor points at.
+     */
+    @SafeVarargs
+    static <T extends Top> TraitFactory<T> dispatching(
+            Class<T> traitType,
+            TraitFactory<? extends T>... factories
+    ) {
+        return new DispatchingTraitFactory<>(traitType, factories.clone());
+    }
+
     /**
      * Find the first view of a given type that matches a cursor.
      *
@@ -66,10 +94,21 @@ static <T extends Top> Validation<TraitErrors, T> findFirstViewOf(
             TraitFactory<? extends T> factory,
             TraitFactory<? extends T>... factories
     ) {
-        return findFirstViewOf(
-                cursor,
-                NonEmptyList.nel(factory, factories)
-        );
+        @SuppressWarnings("unchecked")
+        Validation<TraitErrors, T> view = (Validation<TraitErrors, T>) factory.viewOf(cursor);
+        if (view.isSuccess() || factories.length == 0) {
+            return view;
+        }
+        TraitErrors errors = view.fail();
+        for (TraitFactory<? extends T> next : factories) {
+            @SuppressWarnings("unchecked")
+            Validation<TraitErrors, T> nextView = (Validation<TraitErrors, T>) next.viewOf(cursor);
+            if (nextView.isSuccess()) {
+                return nextView;
+            }
+            errors = TraitErrors.semigroup.sum(errors, nextView.fail());
+        }
+        return Validation.fail(errors);
     }
 
     /**
@@ -84,23 +123,16 @@ static <T extends Top> Validation<TraitErrors, T> findFirstViewOf(
             Cursor cursor,
             NonEmptyList<TraitFactory<? extends T>> factories
     ) {
-        Validation<TraitErrors, T> view = factories.head().viewOf(cursor).map(t -> t);
-        Option<NonEmptyList<TraitFactory<? extends T>>> remainder =
-                NonEmptyList.fromList(
-                        factories.tail()
-                );
-        if (remainder.isNone()) {
-            return view;
+        TraitErrors errors = null;
+        for (TraitFactory<? extends T> factory : factories) {
+            @SuppressWarnings("unchecked")
+            Validation<TraitErrors, T> view = (Validation<TraitErrors, T>) factory.viewOf(cursor);
+            if (view.isSuccess()) {
+                return view;
+            }
+            errors = errors == null ? view.fail() : TraitErrors.semigroup.sum(errors, view.fail());
         }
-        return view.f().bind(fail -> {
-            Validation<TraitErrors, T> next = findFirstViewOf(
-                    cursor,
-                    remainder.some()
-            );
-            return next.f().bind(nextFail -> Validation.fail(TraitErrors.semigroup.sum(
-                    fail,
-                    nextFail
-            )));
-        });
+        assert errors != null;
+        return Validation.fail(errors);
     }
 }
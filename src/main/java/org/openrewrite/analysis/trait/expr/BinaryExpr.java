@@ -47,6 +47,11 @@ public Validation<TraitErrors, BinaryExpr> viewOf(Cursor cursor) {
             }
             return TraitErrors.invalidTraitCreationType(BinaryExpr.class, cursor, J.Binary.class);
         }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return J.Binary.class.isAssignableFrom(treeType);
+        }
     }
 
     static Validation<TraitErrors, BinaryExpr> viewOf(Cursor cursor) {
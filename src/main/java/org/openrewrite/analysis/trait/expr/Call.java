@@ -17,6 +17,7 @@
 
 import fj.data.Option;
 import fj.data.Validation;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
 import org.openrewrite.analysis.InvocationMatcher;
 import org.openrewrite.analysis.trait.TraitFactory;
@@ -39,18 +40,33 @@ default InvocationMatcher methodTypeMatcher() {
     enum Factory implements TraitFactory<Call> {
         F;
 
+        private static final TraitFactory<Call> FACTORIES = TraitFactory.dispatching(
+                Call.class,
+                MethodAccess.Factory.F,
+                ConstructorCall.Factory.F
+        );
+
         @Override
         public Validation<TraitErrors, Call> viewOf(Cursor cursor) {
             // TODO: Missing method reference
-            return TraitFactory.findFirstViewOf(
-                    cursor,
-                    MethodAccess.Factory.F,
-                    ConstructorCall.Factory.F
-            );
+            return FACTORIES.viewOf(cursor);
+        }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return FACTORIES.appliesTo(treeType);
         }
     }
 
     static Validation<TraitErrors, Call> viewOf(Cursor cursor) {
         return Call.Factory.F.viewOf(cursor);
     }
+
+    /**
+     * Like {@link #viewOf(Cursor)}, but {@code null} when the cursor is not a call, discarding the errors.
+     */
+    static @Nullable Call viewOfOrNull(Cursor cursor) {
+        Validation<TraitErrors, Call> call = viewOf(cursor);
+        return call.isSuccess() ? call.success() : null;
+    }
 }
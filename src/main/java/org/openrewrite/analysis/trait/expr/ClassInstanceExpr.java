@@ -42,6 +42,11 @@ public Validation<TraitErrors, ClassInstanceExpr> viewOf(Cursor cursor) {
             }
             return TraitErrors.invalidTraitCreationType(ClassInstanceExpr.class, cursor, J.NewClass.class);
         }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return J.NewClass.class.isAssignableFrom(treeType);
+        }
     }
 
     static Validation<TraitErrors, ClassInstanceExpr> viewOf(Cursor cursor) {
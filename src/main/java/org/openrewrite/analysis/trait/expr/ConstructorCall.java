@@ -28,12 +28,19 @@ public interface ConstructorCall extends Call {
     enum Factory implements TraitFactory<ConstructorCall> {
         F;
 
+        private static final TraitFactory<ConstructorCall> FACTORIES = TraitFactory.dispatching(
+                ConstructorCall.class,
+                ClassInstanceExpr.Factory.F
+        );
+
         @Override
         public Validation<TraitErrors, ConstructorCall> viewOf(Cursor cursor) {
-            return TraitFactory.findFirstViewOf(
-                    cursor,
-                    ClassInstanceExpr.Factory.F
-            );
+            return FACTORIES.viewOf(cursor);
+        }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return FACTORIES.appliesTo(treeType);
         }
     }
 
@@ -32,18 +32,25 @@ public interface Expr extends ExprParent {
     enum Factory implements TraitFactory<Expr> {
         F;
 
+        private static final TraitFactory<Expr> FACTORIES = TraitFactory.dispatching(
+                Expr.class,
+                InstanceAccess.Factory.F,
+                VarAccess.Factory.F,
+                Literal.Factory.F,
+                MethodAccess.Factory.F,
+                BinaryExpr.Factory.F,
+                ClassInstanceExpr.Factory.F,
+                c -> ExprFallback.viewOf(c).map(o -> o)
+        );
+
         @Override
         public Validation<TraitErrors, Expr> viewOf(Cursor cursor) {
-            return TraitFactory.findFirstViewOf(
-                    cursor,
-                    InstanceAccess.Factory.F,
-                    VarAccess.Factory.F,
-                    Literal.Factory.F,
-                    MethodAccess.Factory.F,
-                    BinaryExpr.Factory.F,
-                    ClassInstanceExpr.Factory.F,
-                    c -> ExprFallback.viewOf(c).map(o -> o)
-            );
+            return FACTORIES.viewOf(cursor);
+        }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return FACTORIES.appliesTo(treeType);
         }
     }
 
@@ -28,12 +28,19 @@ public interface ExprParent extends Top {
     enum Factory implements TraitFactory<ExprParent> {
         F;
 
+        private static final TraitFactory<ExprParent> FACTORIES = TraitFactory.dispatching(
+                ExprParent.class,
+                Call.Factory.F
+        );
+
         @Override
         public Validation<TraitErrors, ExprParent> viewOf(Cursor cursor) {
-            return TraitFactory.findFirstViewOf(
-                    cursor,
-                    Call.Factory.F
-            );
+            return FACTORIES.viewOf(cursor);
+        }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return FACTORIES.appliesTo(treeType);
         }
     }
 
@@ -35,13 +35,20 @@ public interface FunctionalExpr extends ClassInstanceExpr {
     enum Factory implements TraitFactory<FunctionalExpr> {
         F;
 
+        private static final TraitFactory<FunctionalExpr> FACTORIES = TraitFactory.dispatching(
+                FunctionalExpr.class,
+                LambdaExpr.Factory.F
+        );
+
         @Override
         public Validation<TraitErrors, FunctionalExpr> viewOf(Cursor cursor) {
             // TODO: also resolve member reference expressions (the other kind of FunctionalExpr).
-            return TraitFactory.findFirstViewOf(
-                    cursor,
-                    LambdaExpr.Factory.F
-            );
+            return FACTORIES.viewOf(cursor);
+        }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return FACTORIES.appliesTo(treeType);
         }
     }
 
@@ -43,13 +43,20 @@ public interface InstanceAccess extends Expr {
     enum Factory implements TraitFactory<InstanceAccess> {
         F;
 
+        private static final TraitFactory<InstanceAccess> FACTORIES = TraitFactory.dispatching(
+                InstanceAccess.class,
+                ThisAccess.Factory.F,
+                SuperAccess.Factory.F
+        );
+
         @Override
         public Validation<TraitErrors, InstanceAccess> viewOf(Cursor cursor) {
-            return TraitFactory.findFirstViewOf(
-                    cursor,
-                    ThisAccess.Factory.F,
-                    SuperAccess.Factory.F
-            );
+            return FACTORIES.viewOf(cursor);
+        }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return FACTORIES.appliesTo(treeType);
         }
     }
 
@@ -87,6 +94,10 @@ public boolean isOwnInstanceAccess() {
         return true;
     }
 
+    static boolean appliesTo(Class<?> treeType) {
+        return J.FieldAccess.class.isAssignableFrom(treeType) || J.Identifier.class.isAssignableFrom(treeType);
+    }
+
     static Validation<TraitErrors, InstanceAccessBase> viewOf(Cursor cursor) {
         Objects.requireNonNull(cursor, "cursor must not be null");
         Object maybeTree = cursor.getValue();
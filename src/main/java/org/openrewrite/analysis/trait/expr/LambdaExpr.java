@@ -48,6 +48,11 @@ public Validation<TraitErrors, LambdaExpr> viewOf(Cursor cursor) {
             }
             return TraitErrors.invalidTraitCreationType(LambdaExpr.class, cursor, J.Lambda.class);
         }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return J.Lambda.class.isAssignableFrom(treeType);
+        }
     }
 
     static Validation<TraitErrors, LambdaExpr> viewOf(Cursor cursor) {
@@ -41,6 +41,11 @@ public Validation<TraitErrors, Literal> viewOf(Cursor cursor) {
             }
             return TraitErrors.invalidTraitCreationType(Literal.class, cursor, J.Literal.class);
         }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return J.Literal.class.isAssignableFrom(treeType);
+        }
     }
 
     static Validation<TraitErrors, Literal> viewOf(Cursor cursor) {
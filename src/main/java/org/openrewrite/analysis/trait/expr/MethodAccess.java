@@ -53,6 +53,11 @@ public Validation<TraitErrors, MethodAccess> viewOf(Cursor cursor) {
             }
             return TraitErrors.invalidTraitCreationType(MethodAccess.class, cursor, J.MethodInvocation.class);
         }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return J.MethodInvocation.class.isAssignableFrom(treeType);
+        }
     }
 
     static Validation<TraitErrors, MethodAccess> viewOf(Cursor cursor) {
@@ -43,6 +43,11 @@ public Validation<TraitErrors, SuperAccess> viewOf(Cursor cursor) {
                 return TraitErrors.invalidTraitCreationError("Instance Access is not a Super Access");
             });
         }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return InstanceAccessBase.appliesTo(treeType);
+        }
     }
 
     static Validation<TraitErrors, SuperAccess> viewOf(Cursor cursor) {
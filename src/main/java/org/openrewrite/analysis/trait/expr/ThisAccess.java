@@ -44,6 +44,11 @@ public Validation<TraitErrors, ThisAccess> viewOf(Cursor cursor) {
                 return TraitErrors.invalidTraitCreationError("Instance Access is not a This Access");
             });
         }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return InstanceAccessBase.appliesTo(treeType);
+        }
     }
 
     static Validation<TraitErrors, ThisAccess> viewOf(Cursor cursor) {
@@ -19,15 +19,17 @@
 import fj.data.Validation;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
 import org.openrewrite.analysis.trait.Top;
 import org.openrewrite.analysis.trait.TraitFactory;
+import org.openrewrite.analysis.trait.internal.DefUseIndex;
 import org.openrewrite.analysis.trait.internal.MaybeParenthesesPair;
+import org.openrewrite.analysis.trait.internal.SymbolTable;
 import org.openrewrite.analysis.trait.member.FieldDeclaration;
 import org.openrewrite.analysis.trait.util.TraitErrors;
 import org.openrewrite.analysis.trait.variable.Field;
 import org.openrewrite.analysis.trait.variable.Variable;
-import org.openrewrite.analysis.trait.variable.VariableUtil;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.tree.*;
 
@@ -87,12 +89,26 @@ public Validation<TraitErrors, VarAccess> viewOf(Cursor cursor) {
             }
             return TraitErrors.invalidTraitCreationType(VarAccess.class, cursor, J.Identifier.class);
         }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return J.Identifier.class.isAssignableFrom(treeType);
+        }
     }
 
     static Validation<TraitErrors, VarAccess> viewOf(Cursor cursor) {
         return Factory.F.viewOf(cursor);
     }
 
+    /**
+     * Like {@link #viewOf(Cursor)}, but {@code null} when the cursor is not a variable access, discarding the
+     * errors.
+     */
+    static @Nullable VarAccess viewOfOrNull(Cursor cursor) {
+        Validation<TraitErrors, VarAccess> varAccess = viewOf(cursor);
+        return varAccess.isSuccess() ? varAccess.success() : null;
+    }
+
     /**
      * Better to use {@link Variable#getVarAccesses()} as the correct 'scope' can be difficult to determine.
      */
@@ -170,6 +186,17 @@ public boolean isRValue() {
     }
 
     private static Variable computeVariable(VarAccessBase varAccess, Cursor cursor, J.Identifier varAccessIdent) {
+        SymbolTable symbolTable = SymbolTable.of(cursor);
+        if (symbolTable.contains(varAccessIdent)) {
+            Variable declared = symbolTable.getVariable(varAccessIdent);
+            if (declared != null) {
+                return declared;
+            }
+            assert varAccessIdent.getFieldType() != null;
+            return FieldFromJavaTypeVariable.create(varAccessIdent.getFieldType(), cursor);
+        }
+
+        // The identifier is not part of the source file the symbol table was built from
         Cursor compilationUnit = cursor.dropParentUntil(JavaSourceFile.class::isInstance);
         AtomicBoolean found = new AtomicBoolean(false);
         Variable[] closestVariable = new Variable[1];
@@ -345,12 +372,12 @@ public Option<JavaType> getType() {
 
     @Override
     public Collection<VarAccess> getVarAccesses() {
-        return VarAccess.findAllInScope(compilationUnitCursor, this);
+        return DefUseIndex.of(compilationUnitCursor).getVarAccesses(this);
     }
 
     @Override
     public Collection<Expr> getAssignedValues() {
-        return VariableUtil.findAssignedValues(compilationUnitCursor, this);
+        return DefUseIndex.of(compilationUnitCursor).getAssignedValues(this);
     }
 
     @Override
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.trait.internal;
+
+import fj.data.Validation;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.analysis.trait.expr.Expr;
+import org.openrewrite.analysis.trait.expr.VarAccess;
+import org.openrewrite.analysis.trait.util.TraitErrors;
+import org.openrewrite.analysis.trait.variable.Variable;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+
+import java.util.*;
+
+/**
+ * The accesses of, and the values assigned to, every variable in a source file, collected in a single pass over the
+ * source file and cached on its cursor.
+ */
+public final class DefUseIndex {
+    private static final String DEF_USE_INDEX = DefUseIndex.class.getName();
+
+    private final Map<Variable, List<Located<VarAccess>>> accesses = new HashMap<>();
+    private final Map<Variable, List<Located<Expr>>> assignedValues = new HashMap<>();
+
+    private DefUseIndex() {
+    }
+
+    public static DefUseIndex of(Cursor cursor) {
+        Cursor sourceFile = cursor.dropParentUntil(JavaSourceFile.class::isInstance);
+        return sourceFile.computeMessageIfAbsent(DEF_USE_INDEX, __ -> build(sourceFile));
+    }
+
+    /**
+     * @return The accesses of the variable in the source file, in the order they appear in.
+     */
+    public Collection<VarAccess> getVarAccesses(Variable variable) {
+        return unwrap(accesses.getOrDefault(variable, Collections.emptyList()), null);
+    }
+
+    /**
+     * @param scope Only the accesses within this tree are returned.
+     */
+    public Collection<VarAccess> getVarAccesses(Variable variable, J scope) {
+        return unwrap(accesses.getOrDefault(variable, Collections.emptyList()), scope);
+    }
+
+    /**
+     * @return The initializer of the variable and the values assigned to it in the source file, in the order they
+     * appear in.
+     */
+    public Collection<Expr> getAssignedValues(Variable variable) {
+        return unwrap(assignedValues.getOrDefault(variable, Collections.emptyList()), null);
+    }
+
+    /**
+     * @param scope Only the values assigned within this tree are returned.
+     */
+    public Collection<Expr> getAssignedValues(Variable variable, J scope) {
+        return unwrap(assignedValues.getOrDefault(variable, Collections.emptyList()), scope);
+    }
+
+    private static <T> List<T> unwrap(List<Located<T>> located, @Nullable J scope) {
+        List<T> values = new ArrayList<>(located.size());
+        for (Located<T> value : located) {
+            if (scope == null || value.isWithin(scope)) {
+                values.add(value.getValue());
+            }
+        }
+        return values;
+    }
+
+    private static DefUseIndex build(Cursor sourceFile) {
+        DefUseIndex index = new DefUseIndex();
+        new JavaVisitor<Integer>() {
+            @Override
+            public J visitIdentifier(J.Identifier ident, Integer p) {
+                VarAccess.viewOf(getCursor()).forEach(varAccess -> index.accesses
+                        .computeIfAbsent(varAccess.getVariable(), __ -> new ArrayList<>(2))
+                        .add(new Located<>(getCursor(), varAccess)));
+                return ident;
+            }
+
+            @Override
+            public J visitVariable(J.VariableDeclarations.NamedVariable variable, Integer p) {
+                if (variable.getInitializer() != null) {
+                    Cursor initializer = new Cursor(getCursor(), variable.getInitializer());
+                    Variable.viewOf(getCursor()).forEach(declared -> Expr.viewOf(initializer).forEach(value ->
+                            index.assign(declared, initializer, value)));
+                }
+                return super.visitVariable(variable, p);
+            }
+
+            @Override
+            public J visitAssignment(J.Assignment assignment, Integer p) {
+                Validation<TraitErrors, VarAccess> varAccess = assignedVarAccess(assignment, getCursor());
+                Cursor value = new Cursor(getCursor(), assignment.getAssignment());
+                varAccess.forEach(assigned -> Expr.viewOf(value).forEach(expr ->
+                        index.assign(assigned.getVariable(), value, expr)));
+                return super.visitAssignment(assignment, p);
+            }
+        }.visit(sourceFile.getValue(), 0, sourceFile.getParentOrThrow());
+        return index;
+    }
+
+    private void assign(Variable variable, Cursor cursor, Expr value) {
+        assignedValues.computeIfAbsent(variable, __ -> new ArrayList<>(1)).add(new Located<>(cursor, value));
+    }
+
+    /**
+     * The variable access being assigned to, which is the name of a field access like {@code this.field}.
+     */
+    private static Validation<TraitErrors, VarAccess> assignedVarAccess(J.Assignment assignment, Cursor cursor) {
+        @SuppressWarnings("unchecked")
+        Validation<TraitErrors, VarAccess>[] varAccess = new Validation[]{VarAccess.viewOf(
+                new Cursor(cursor, Objects.requireNonNull(Expression.unwrap(assignment.getVariable())))
+        )};
+        if (!varAccess[0].isSuccess()) {
+            new JavaIsoVisitor<Integer>() {
+                @Override
+                public J.FieldAccess visitFieldAccess(J.FieldAccess fieldAccess, Integer x) {
+                    varAccess[0] = VarAccess.viewOf(new Cursor(getCursor(), fieldAccess.getName()));
+                    return super.visitFieldAccess(fieldAccess, x);
+                }
+            }.visit(assignment.getVariable(), 0, cursor);
+        }
+        return varAccess[0];
+    }
+
+    @Value
+    private static class Located<T> {
+        Cursor cursor;
+        T value;
+
+        boolean isWithin(J scope) {
+            for (Cursor c = cursor; c != null; c = c.getParent()) {
+                if (c.getValue() == scope) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
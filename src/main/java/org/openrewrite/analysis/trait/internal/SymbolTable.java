@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.trait.internal;
+
+import fj.data.Validation;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.analysis.trait.util.TraitErrors;
+import org.openrewrite.analysis.trait.variable.Variable;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.*;
+
+/**
+ * The variable declaration every identifier in a source file refers to, resolved in a single pass over the source
+ * file and cached on its cursor.
+ * <p>
+ * An identifier refers to the closest declaration preceding it in the source file with the same name and the same
+ * owner, that is the same enclosing method for local variables and parameters, and the same class for fields.
+ */
+public final class SymbolTable {
+    private static final String SYMBOL_TABLE = SymbolTable.class.getName();
+
+    /**
+     * Identifiers mapped to {@code null} refer to a variable which is not declared in the source file.
+     */
+    private final Map<J.Identifier, @Nullable Declaration> declarations = new IdentityHashMap<>();
+
+    private SymbolTable() {
+    }
+
+    public static SymbolTable of(Cursor cursor) {
+        Cursor sourceFile = cursor.dropParentUntil(JavaSourceFile.class::isInstance);
+        return sourceFile.computeMessageIfAbsent(SYMBOL_TABLE, __ -> build(sourceFile));
+    }
+
+    /**
+     * @return {@code false} for identifiers without a type, and for identifiers that are not part of the source file
+     * as it was when the symbol table was built.
+     */
+    public boolean contains(J.Identifier identifier) {
+        return declarations.containsKey(identifier);
+    }
+
+    /**
+     * @return The variable declared in the source file that the identifier refers to, or {@code null} if it refers
+     * to a variable declared elsewhere.
+     */
+    public @Nullable Variable getVariable(J.Identifier identifier) {
+        Declaration declaration = declarations.get(identifier);
+        return declaration == null ? null : declaration.getVariable().on(TraitErrors::doThrow);
+    }
+
+    /**
+     * Like {@link #getVariable(J.Identifier)}, but also {@code null} when the declaration has no {@link Variable}
+     * view, like the components of a record.
+     */
+    public @Nullable Variable findVariable(J.Identifier identifier) {
+        Declaration declaration = declarations.get(identifier);
+        if (declaration == null) {
+            return null;
+        }
+        Validation<TraitErrors, Variable> variable = declaration.getVariable();
+        return variable.isSuccess() ? variable.success() : null;
+    }
+
+    private static SymbolTable build(Cursor sourceFile) {
+        SymbolTable symbolTable = new SymbolTable();
+        Map<String, List<Declaration>> declarationsByName = new HashMap<>();
+        new JavaVisitor<Integer>() {
+            @Override
+            public J visitVariable(J.VariableDeclarations.NamedVariable variable, Integer p) {
+                JavaType.Variable fieldType = variable.getName().getFieldType();
+                if (fieldType != null && fieldType.getOwner() != null) {
+                    declarationsByName.computeIfAbsent(variable.getSimpleName(), __ -> new ArrayList<>(1))
+                            .add(new Declaration(getCursor(), fieldType.getOwner()));
+                }
+                return super.visitVariable(variable, p);
+            }
+
+            @Override
+            public J visitIdentifier(J.Identifier ident, Integer p) {
+                JavaType.Variable fieldType = ident.getFieldType();
+                if (fieldType != null && fieldType.getOwner() != null) {
+                    symbolTable.declarations.put(ident, closest(
+                            declarationsByName.getOrDefault(ident.getSimpleName(), Collections.emptyList()),
+                            fieldType.getOwner()));
+                }
+                return ident;
+            }
+        }.visit(sourceFile.getValue(), 0, sourceFile.getParentOrThrow());
+        return symbolTable;
+    }
+
+    private static @Nullable Declaration closest(List<Declaration> declarations, JavaType owner) {
+        for (int i = declarations.size() - 1; i >= 0; i--) {
+            if (owner.equals(declarations.get(i).owner)) {
+                return declarations.get(i);
+            }
+        }
+        return null;
+    }
+
+    @RequiredArgsConstructor
+    private static class Declaration {
+        private final Cursor cursor;
+        private final JavaType owner;
+        private @Nullable Validation<TraitErrors, Variable> variable;
+
+        /**
+         * Every access to the same declaration shares one view of it.
+         */
+        Validation<TraitErrors, Variable> getVariable() {
+            if (variable == null) {
+                variable = Variable.viewOf(cursor);
+            }
+            return variable;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.trait.internal;
+
+import fj.data.Validation;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.analysis.trait.Top;
+import org.openrewrite.analysis.trait.util.TraitErrors;
+import org.openrewrite.java.tree.JavaSourceFile;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Views of the trees of a source file, created once per tree and trait type and cached on the cursor of the source
+ * file, so that every view of the same tree shares whatever it computes lazily.
+ * <p>
+ * Views of trees that are not part of a source file are not cached. Factories should only cache the trees they apply
+ * to, so that the failed views of all the other trees are not retained.
+ */
+public final class TraitCache {
+    private static final String TRAIT_CACHE = TraitCache.class.getName();
+
+    private final Map<Class<?>, Map<Object, Validation<TraitErrors, ?>>> viewsByTraitType = new HashMap<>();
+
+    private TraitCache() {
+    }
+
+    /**
+     * @param traitType The type of trait to view the tree the cursor points at as.
+     * @param cursor    The cursor to create a trait view of.
+     * @param create    Creates the view the first time this tree is viewed as this trait type.
+     * @param <T>       The type of trait to view the tree as.
+     * @return The view of the tree, shared by all views of the same tree as the same trait type.
+     */
+    public static <T extends Top> Validation<TraitErrors, T> viewOf(
+            Class<T> traitType,
+            Cursor cursor,
+            Function<Cursor, Validation<TraitErrors, T>> create
+    ) {
+        Cursor sourceFile = sourceFile(cursor);
+        if (sourceFile == null) {
+            return create.apply(cursor);
+        }
+        TraitCache cache = sourceFile.computeMessageIfAbsent(TRAIT_CACHE, __ -> new TraitCache());
+        Map<Object, Validation<TraitErrors, ?>> views = cache.viewsByTraitType.get(traitType);
+        if (views == null) {
+            views = new IdentityHashMap<>();
+            cache.viewsByTraitType.put(traitType, views);
+        }
+        Validation<TraitErrors, ?> view = views.get(cursor.getValue());
+        if (view == null) {
+            view = create.apply(cursor);
+            views.put(cursor.getValue(), view);
+        }
+        @SuppressWarnings("unchecked")
+        Validation<TraitErrors, T> result = (Validation<TraitErrors, T>) view;
+        return result;
+    }
+
+    /**
+     * @return The cursor of the source file the cursor points into, on which per source file caches are kept, or
+     * {@code null} if the cursor is not part of a source file.
+     */
+    public static @Nullable Cursor sourceFile(Cursor cursor) {
+        for (Cursor c = cursor; c != null; c = c.getParent()) {
+            if (c.getValue() instanceof JavaSourceFile) {
+                return c;
+            }
+        }
+        return null;
+    }
+}
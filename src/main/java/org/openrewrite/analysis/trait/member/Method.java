@@ -21,16 +21,16 @@
 import org.openrewrite.Cursor;
 import org.openrewrite.analysis.trait.Top;
 import org.openrewrite.analysis.trait.TraitFactory;
+import org.openrewrite.analysis.trait.internal.TraitCache;
 import org.openrewrite.analysis.trait.util.TraitErrors;
 import org.openrewrite.analysis.trait.variable.Parameter;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.tree.Flag;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JContainer;
 import org.openrewrite.java.tree.JavaType;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
 import static java.util.Collections.unmodifiableList;
 
@@ -42,6 +42,12 @@ enum Factory implements TraitFactory<Method> {
 
         @Override
         public Validation<TraitErrors, Method> viewOf(Cursor cursor) {
+            return appliesTo(cursor.getValue().getClass()) ?
+                    TraitCache.viewOf(Method.class, cursor, Factory::create) :
+                    create(cursor);
+        }
+
+        private static Validation<TraitErrors, Method> create(Cursor cursor) {
             if (cursor.getValue() instanceof J.MethodDeclaration) {
                 return Validation.success(new MethodDeclarationMethod(
                         cursor,
@@ -59,6 +65,11 @@ public Validation<TraitErrors, Method> viewOf(Cursor cursor) {
             }
             return TraitErrors.invalidTraitCreationType(Method.class, cursor, J.MethodDeclaration.class);
         }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return J.MethodDeclaration.class.isAssignableFrom(treeType) || J.Lambda.class.isAssignableFrom(treeType);
+        }
     }
 
     static Validation<TraitErrors, Method> viewOf(Cursor cursor) {
@@ -100,7 +111,12 @@ public UUID getId() {
     private static List<Parameter> collectParameters(Cursor cursor, J.MethodDeclaration methodDeclaration) {
         assert cursor.getValue() == methodDeclaration;
         List<Parameter> parameters = new ArrayList<>(methodDeclaration.getParameters().size());
-        new ParameterCollector(cursor).visit(methodDeclaration.getParameters(), parameters);
+        // Visit the padded parameters container, so that each parameter's cursor path matches the LST.
+        new ParameterCollector(cursor).visitContainer(
+                methodDeclaration.getPadding().getParameters(),
+                JContainer.Location.METHOD_DECLARATION_PARAMETERS,
+                parameters
+        );
         return unmodifiableList(parameters);
     }
 }
@@ -129,6 +145,13 @@ public J visitVariable(J.VariableDeclarations.NamedVariable variable, List<Param
  */
 @AllArgsConstructor
 class LambdaMethod extends Top.Base implements Method {
+    /**
+     * The single abstract methods of the functional interfaces the lambdas of a source file implement, by functional
+     * interface and arity, kept on the cursor of the source file. Few functional interfaces are implemented by very
+     * many lambdas.
+     */
+    private static final String SAMS = LambdaMethod.class.getName() + ".SAMS";
+
     Cursor cursor;
 
     J.Lambda lambda;
@@ -137,7 +160,7 @@ class LambdaMethod extends Top.Base implements Method {
     private final List<Parameter> parameters = collectParameters(cursor, lambda);
 
     @Getter(lazy = true)
-    private final Option<JavaType.Method> sam = findSam(lambda);
+    private final Option<JavaType.Method> sam = findSam(cursor, lambda);
 
     @Override
     public String getName() {
@@ -174,8 +197,12 @@ private static List<Parameter> collectParameters(Cursor cursor, J.Lambda lambda)
      * Returns {@link Option#none()} when the type information is missing or the SAM cannot be
      * unambiguously determined, allowing callers to fall back gracefully.
      */
-    private static Option<JavaType.Method> findSam(J.Lambda lambda) {
+    private static Option<JavaType.Method> findSam(Cursor cursor, J.Lambda lambda) {
         JavaType type = lambda.getType();
+        if (type instanceof JavaType.Parameterized) {
+            // The methods of a parameterized type are those of its generic type.
+            type = ((JavaType.Parameterized) type).getType();
+        }
         if (!(type instanceof JavaType.FullyQualified)) {
             return Option.none();
         }
@@ -185,8 +212,27 @@ private static Option<JavaType.Method> findSam(J.Lambda lambda) {
                 arity++;
             }
         }
+        JavaType.FullyQualified functionalInterface = (JavaType.FullyQualified) type;
+        Cursor sourceFile = TraitCache.sourceFile(cursor);
+        if (sourceFile == null) {
+            return findSam(functionalInterface, arity);
+        }
+        // Keyed by identity, as distinct types may share a fully qualified name
+        Map<JavaType.FullyQualified, Map<Integer, Option<JavaType.Method>>> sams =
+                sourceFile.computeMessageIfAbsent(SAMS, __ -> new IdentityHashMap<>());
+        Map<Integer, Option<JavaType.Method>> samsByArity =
+                sams.computeIfAbsent(functionalInterface, __ -> new HashMap<>(2));
+        Option<JavaType.Method> sam = samsByArity.get(arity);
+        if (sam == null) {
+            sam = findSam(functionalInterface, arity);
+            samsByArity.put(arity, sam);
+        }
+        return sam;
+    }
+
+    private static Option<JavaType.Method> findSam(JavaType.FullyQualified type, int arity) {
         JavaType.Method found = null;
-        for (JavaType.Method method : ((JavaType.FullyQualified) type).getMethods()) {
+        for (JavaType.Method method : type.getMethods()) {
             // The SAM is neither static nor a default method, and matches the lambda's arity.
             if (method.hasFlags(Flag.Static) || method.hasFlags(Flag.Default)) {
                 continue;
@@ -38,6 +38,11 @@ public Validation<TraitErrors, ReturnStmt> viewOf(Cursor cursor) {
             }
             return TraitErrors.invalidTraitCreationType(ReturnStmt.class, cursor, J.Return.class);
         }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return J.Return.class.isAssignableFrom(treeType);
+        }
     }
 
     static Validation<TraitErrors, ReturnStmt> viewOf(Cursor cursor) {
@@ -32,13 +32,20 @@ public interface Stmt extends StmtParent {
     enum Factory implements TraitFactory<Stmt> {
         F;
 
+        private static final TraitFactory<Stmt> FACTORIES = TraitFactory.dispatching(
+                Stmt.class,
+                ReturnStmt.Factory.F,
+                c -> StmtFallback.viewOf(c).map(o -> o)
+        );
+
         @Override
         public Validation<TraitErrors, Stmt> viewOf(Cursor cursor) {
-            return TraitFactory.findFirstViewOf(
-                    cursor,
-                    ReturnStmt.Factory.F,
-                    c -> StmtFallback.viewOf(c).map(o -> o)
-            );
+            return FACTORIES.viewOf(cursor);
+        }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return FACTORIES.appliesTo(treeType);
         }
     }
 
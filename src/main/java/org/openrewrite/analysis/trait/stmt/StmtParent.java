@@ -19,7 +19,7 @@
 import org.openrewrite.Cursor;
 import org.openrewrite.analysis.trait.Top;
 import org.openrewrite.analysis.trait.TraitFactory;
-import org.openrewrite.analysis.trait.member.Callable;
+import org.openrewrite.analysis.trait.member.Method;
 import org.openrewrite.analysis.trait.util.TraitErrors;
 
 /**
@@ -29,13 +29,20 @@ public interface StmtParent extends Top {
     enum Factory implements TraitFactory<StmtParent> {
         F;
 
+        private static final TraitFactory<StmtParent> FACTORIES = TraitFactory.dispatching(
+                StmtParent.class,
+                Stmt.Factory.F,
+                Method.Factory.F
+        );
+
         @Override
         public Validation<TraitErrors, StmtParent> viewOf(Cursor cursor) {
-            return TraitFactory.findFirstViewOf(
-                    cursor,
-                    Stmt.Factory.F,
-                    Callable.Factory.F
-            );
+            return FACTORIES.viewOf(cursor);
+        }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return FACTORIES.appliesTo(treeType);
         }
     }
 
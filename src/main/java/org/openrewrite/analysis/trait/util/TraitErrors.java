@@ -17,33 +17,97 @@
 
 import fj.Semigroup;
 import fj.data.Validation;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
 
 import javax.annotation.concurrent.Immutable;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
-import static java.util.Collections.singletonList;
 import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
 
+/**
+ * Most trait views that are attempted fail, and their errors are almost never looked at, so error messages are only
+ * rendered once the errors are iterated, printed or thrown. The failures that only depend on the trait and tree types
+ * involved are shared rather than allocated anew, and summing errors merely links them together.
+ */
 @Immutable
 public final class TraitErrors implements Iterable<TraitError> {
-    private final List<TraitError> errors;
+    /**
+     * Bounds the number of distinct constant messages that shared failures are kept for.
+     */
+    private static final int MAX_SHARED_MESSAGES = 1024;
+
+    private static final Map<String, Validation<TraitErrors, ?>> FAILURES_BY_MESSAGE = new ConcurrentHashMap<>();
+
+    /**
+     * Failures of {@link #invalidTraitCreationType(Class, Cursor, Class)}, by the type of the tree, the trait type and
+     * the expected tree type.
+     */
+    private static final ClassValue<Map<Class<?>, Map<Class<?>, Validation<TraitErrors, ?>>>> TYPE_FAILURES =
+            new ClassValue<Map<Class<?>, Map<Class<?>, Validation<TraitErrors, ?>>>>() {
+                @Override
+                protected Map<Class<?>, Map<Class<?>, Validation<TraitErrors, ?>>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private final @Nullable Supplier<String> error;
+    private final @Nullable TraitErrors first;
+    private final @Nullable TraitErrors second;
+
+    private volatile @Nullable List<TraitError> errors;
 
     private TraitErrors(List<TraitError> errors) {
         // Defensive copy
         this.errors =
                 unmodifiableList(new ArrayList<>(Objects.requireNonNull(errors, "errors cannot be null")));
+        this.error = null;
+        this.first = null;
+        this.second = null;
+    }
+
+    private TraitErrors(Supplier<String> error) {
+        this.error = error;
+        this.first = null;
+        this.second = null;
+    }
+
+    private TraitErrors(TraitErrors first, TraitErrors second) {
+        this.error = null;
+        this.first = first;
+        this.second = second;
     }
 
     @Override
     public Iterator<TraitError> iterator() {
-        return errors.iterator();
+        return errors().iterator();
+    }
+
+    private List<TraitError> errors() {
+        List<TraitError> result = errors;
+        if (result == null) {
+            List<TraitError> rendered = new ArrayList<>();
+            // Sums nest arbitrarily deep when errors are collected along a cursor path
+            Deque<TraitErrors> pending = new ArrayDeque<>();
+            pending.push(this);
+            while (!pending.isEmpty()) {
+                TraitErrors next = pending.pop();
+                List<TraitError> nextErrors = next.errors;
+                if (nextErrors != null) {
+                    rendered.addAll(nextErrors);
+                } else if (next.error != null) {
+                    rendered.add(new TraitError(next.error.get()));
+                } else {
+                    pending.push(Objects.requireNonNull(next.second));
+                    pending.push(Objects.requireNonNull(next.first));
+                }
+            }
+            errors = result = unmodifiableList(rendered);
+        }
+        return result;
     }
 
     public <V> V doThrow() {
@@ -52,42 +116,73 @@ public <V> V doThrow() {
 
     @Override
     public String toString() {
-        return "TraitErrors: " + errors.stream()
+        return "TraitErrors: " + errors().stream()
                 .map(TraitError::getError)
                 .collect(joining("\n\t- ", "\n\t- ", ""));
     }
 
     public static TraitErrors fromSingle(TraitError error) {
-        return new TraitErrors(singletonList(error));
+        return new TraitErrors(Collections.singletonList(error));
     }
 
     public static TraitErrors fromSingleError(String error) {
-        return fromSingle(new TraitError(error));
+        return new TraitErrors(() -> error);
+    }
+
+    /**
+     * @param error Renders the error message, only once the error is looked at.
+     */
+    public static TraitErrors fromSingleError(Supplier<String> error) {
+        return new TraitErrors(error);
     }
 
     public static <V> Validation<TraitErrors, V> invalidTraitCreationError(String error) {
-        return Validation.fail(TraitErrors.fromSingleError(error));
+        Validation<TraitErrors, ?> failure = FAILURES_BY_MESSAGE.get(error);
+        if (failure == null) {
+            failure = Validation.fail(fromSingleError(error));
+            if (FAILURES_BY_MESSAGE.size() < MAX_SHARED_MESSAGES) {
+                FAILURES_BY_MESSAGE.putIfAbsent(error, failure);
+            }
+        }
+        return shared(failure);
     }
 
     public static <V extends U, U> Validation<TraitErrors, V> invalidTraitCreationType(Class<U> traitType, Cursor cursor, Class<?> expectedType) {
-        return Validation.fail(TraitErrors.fromSingleError(
-                traitType.getSimpleName() + " must be created from " + expectedType + " but was " + cursor.getValue().getClass()
-        ));
+        Class<?> actualType = cursor.getValue().getClass();
+        Map<Class<?>, Map<Class<?>, Validation<TraitErrors, ?>>> byTraitType = TYPE_FAILURES.get(actualType);
+        Map<Class<?>, Validation<TraitErrors, ?>> byExpectedType = byTraitType.get(traitType);
+        if (byExpectedType == null) {
+            byExpectedType = byTraitType.computeIfAbsent(traitType, __ -> new ConcurrentHashMap<>());
+        }
+        Validation<TraitErrors, ?> failure = byExpectedType.get(expectedType);
+        if (failure == null) {
+            failure = Validation.fail(fromSingleError(() ->
+                    traitType.getSimpleName() + " must be created from " + expectedType + " but was " + actualType));
+            byExpectedType.putIfAbsent(expectedType, failure);
+        }
+        return shared(failure);
     }
 
     public static <V extends U, U> Validation<TraitErrors, V> invalidTraitCreationType(Class<U> traitType, Cursor cursor, Class<?> expectedTypeFirst, Class<?> expectedTypeSecond) {
-        return Validation.fail(TraitErrors.fromSingleError(
-                traitType.getSimpleName() + " must be created from " + expectedTypeFirst + " or " + expectedTypeSecond + " but was " + cursor.getValue().getClass()
+        Class<?> actualType = cursor.getValue().getClass();
+        return Validation.fail(fromSingleError(() ->
+                traitType.getSimpleName() + " must be created from " + expectedTypeFirst + " or " + expectedTypeSecond + " but was " + actualType
         ));
     }
 
     public static <V extends U, U> Validation<TraitErrors, V> invalidTraitCreation(Class<U> traitType, String error) {
-        return Validation.fail(TraitErrors.fromSingleError(
+        return Validation.fail(fromSingleError(() ->
                 traitType.getSimpleName() + " could not be created: " + error
         ));
     }
 
-    public static Semigroup<TraitErrors> semigroup = Semigroup.semigroupDef((a, b) -> new TraitErrors(
-            Stream.concat(a.errors.stream(), b.errors.stream()).collect(toList())
-    ));
+    /**
+     * A failure never holds a value, so one failure can stand in for any value type.
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> Validation<TraitErrors, V> shared(Validation<TraitErrors, ?> failure) {
+        return (Validation<TraitErrors, V>) failure;
+    }
+
+    public static Semigroup<TraitErrors> semigroup = Semigroup.semigroupDef((a, b) -> new TraitErrors(a, b));
 }
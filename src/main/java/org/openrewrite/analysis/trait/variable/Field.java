@@ -23,13 +23,13 @@
 import org.openrewrite.analysis.trait.TraitFactory;
 import org.openrewrite.analysis.trait.expr.Expr;
 import org.openrewrite.analysis.trait.expr.VarAccess;
+import org.openrewrite.analysis.trait.internal.DefUseIndex;
 import org.openrewrite.analysis.trait.member.FieldDeclaration;
 import org.openrewrite.analysis.trait.member.Member;
 import org.openrewrite.analysis.trait.util.TraitErrors;
 import org.openrewrite.analysis.util.FlagUtil;
 import org.openrewrite.java.tree.Flag;
 import org.openrewrite.java.tree.J;
-import org.openrewrite.java.tree.JavaSourceFile;
 import org.openrewrite.java.tree.JavaType;
 
 import java.util.Collection;
@@ -63,6 +63,11 @@ public Validation<TraitErrors, Field> viewOf(Cursor cursor) {
             }
             return TraitErrors.invalidTraitCreationType(Field.class, cursor, J.VariableDeclarations.NamedVariable.class);
         }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return J.VariableDeclarations.NamedVariable.class.isAssignableFrom(treeType);
+        }
     }
 
     static Validation<TraitErrors, Field> viewOf(Cursor cursor) {
@@ -99,15 +104,13 @@ public Option<JavaType> getType() {
 
     @Override
     public Collection<VarAccess> getVarAccesses() {
-        // Searching starts at the J.CompilationUnit because we want to find all references to this field, within the file,
-        // not just within the class (which may contain multiple classes).
-        Cursor searchScope = parentBlock.dropParentUntil(JavaSourceFile.class::isInstance);
-        return VarAccess.findAllInScope(searchScope, this);
+        // All references to this field within the file, not just within the class (which may contain multiple classes).
+        return DefUseIndex.of(parentBlock).getVarAccesses(this);
     }
 
     @Override
     public Collection<Expr> getAssignedValues() {
-        return VariableUtil.findAssignedValues(parentBlock.dropParentUntil(JavaSourceFile.class::isInstance), this);
+        return DefUseIndex.of(parentBlock).getAssignedValues(this);
     }
 
     @Override
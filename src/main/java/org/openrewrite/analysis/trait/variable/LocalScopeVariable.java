@@ -28,13 +28,20 @@ public interface LocalScopeVariable extends Variable {
     enum Factory implements TraitFactory<LocalScopeVariable> {
         F;
 
+        private static final TraitFactory<LocalScopeVariable> FACTORIES = TraitFactory.dispatching(
+                LocalScopeVariable.class,
+                Parameter.Factory.F,
+                LocalVariableDecl.Factory.F
+        );
+
         @Override
         public Validation<TraitErrors, LocalScopeVariable> viewOf(Cursor cursor) {
-            return TraitFactory.findFirstViewOf(
-                    cursor,
-                    Parameter.Factory.F,
-                    LocalVariableDecl.Factory.F
-            );
+            return FACTORIES.viewOf(cursor);
+        }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return FACTORIES.appliesTo(treeType);
         }
     }
 
@@ -25,6 +25,7 @@
 import org.openrewrite.analysis.trait.TraitFactory;
 import org.openrewrite.analysis.trait.expr.Expr;
 import org.openrewrite.analysis.trait.expr.VarAccess;
+import org.openrewrite.analysis.trait.internal.DefUseIndex;
 import org.openrewrite.analysis.trait.member.Callable;
 import org.openrewrite.analysis.trait.member.InstanceInitializer;
 import org.openrewrite.analysis.trait.member.Method;
@@ -54,6 +55,11 @@ public Validation<TraitErrors, LocalVariableDecl> viewOf(Cursor cursor) {
             }
             return TraitErrors.invalidTraitCreationType(LocalVariableDecl.class, cursor, J.VariableDeclarations.class);
         }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return J.VariableDeclarations.NamedVariable.class.isAssignableFrom(treeType);
+        }
     }
 
     static Validation<TraitErrors, LocalVariableDecl> viewOf(Cursor cursor) {
@@ -87,12 +93,12 @@ public Option<JavaType> getType() {
 
     @Override
     public Collection<VarAccess> getVarAccesses() {
-        return VarAccess.findAllInScope(cursor.dropParentUntil(JavaSourceFile.class::isInstance), this);
+        return DefUseIndex.of(cursor).getVarAccesses(this);
     }
 
     @Override
     public Collection<Expr> getAssignedValues() {
-        return VariableUtil.findAssignedValues(cursor.dropParentUntil(JavaSourceFile.class::isInstance), this);
+        return DefUseIndex.of(cursor).getAssignedValues(this);
     }
 
     @Override
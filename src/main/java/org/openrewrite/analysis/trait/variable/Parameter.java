@@ -26,6 +26,8 @@
 import org.openrewrite.analysis.trait.TraitFactory;
 import org.openrewrite.analysis.trait.expr.Expr;
 import org.openrewrite.analysis.trait.expr.VarAccess;
+import org.openrewrite.analysis.trait.internal.DefUseIndex;
+import org.openrewrite.analysis.trait.internal.TraitCache;
 import org.openrewrite.analysis.trait.member.Method;
 import org.openrewrite.analysis.trait.util.TraitErrors;
 import org.openrewrite.analysis.util.FlagUtil;
@@ -58,6 +60,12 @@ enum Factory implements TraitFactory<Parameter> {
         F;
         @Override
         public Validation<TraitErrors, Parameter> viewOf(Cursor c) {
+            return appliesTo(c.getValue().getClass()) ?
+                    TraitCache.viewOf(Parameter.class, c, Factory::create) :
+                    create(c);
+        }
+
+        private static Validation<TraitErrors, Parameter> create(Cursor c) {
             if (c.getValue() instanceof J.VariableDeclarations.NamedVariable) {
                 Cursor variableDeclarationsCursor = c.getParentTreeCursor();
                 Cursor maybeCallableCursor = variableDeclarationsCursor.getParentTreeCursor();
@@ -78,6 +86,11 @@ public Validation<TraitErrors, Parameter> viewOf(Cursor c) {
             }
             return TraitErrors.invalidTraitCreationType(Parameter.class, c, J.VariableDeclarations.NamedVariable.class);
         }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return J.VariableDeclarations.NamedVariable.class.isAssignableFrom(treeType);
+        }
     }
 
     static Validation<TraitErrors, Parameter> viewOf(Cursor c) {
@@ -110,9 +123,8 @@ public String getName() {
 
     @Override
     public int getPosition() {
-        // Compute the index directly from the LST rather than via callable.getParameters().indexOf(this).
-        // The latter rebuilds the callable's full Parameter list on every call and, for a lambda, mints a
-        // fresh Method per parameter (whose lazy caches are never shared), making positioning O(n^2).
+        // Compute the index directly from the LST rather than via callable.getParameters().indexOf(this),
+        // which would have the callable collect the views of all of its parameters just to position one.
         Object callableTree = callableCursor.getValue();
         if (callableTree instanceof J.MethodDeclaration) {
             return ((J.MethodDeclaration) callableTree).getParameters().indexOf(variableDeclarations);
@@ -140,14 +152,14 @@ public Option<JavaType> getType() {
     @Override
     public Collection<VarAccess> getVarAccesses() {
         return bodyScope()
-                .map(scope -> VarAccess.findAllInScope(scope, this))
+                .map(scope -> DefUseIndex.of(scope).getVarAccesses(this, scope.getValue()))
                 .orSome(emptySet());
     }
 
     @Override
     public Collection<Expr> getAssignedValues() {
         return bodyScope()
-                .map(scope -> VariableUtil.findAssignedValues(scope, this))
+                .map(scope -> DefUseIndex.of(scope).getAssignedValues(this, scope.getValue()))
                 .orSome(emptySet());
     }
 
@@ -47,13 +47,20 @@ public interface Variable extends Element {
     enum Factory implements TraitFactory<Variable> {
         F;
 
+        private static final TraitFactory<Variable> FACTORIES = TraitFactory.dispatching(
+                Variable.class,
+                LocalScopeVariable.Factory.F,
+                Field.Factory.F
+        );
+
         @Override
         public Validation<TraitErrors, Variable> viewOf(Cursor cursor) {
-            return TraitFactory.findFirstViewOf(
-                    cursor,
-                    LocalScopeVariable.Factory.F,
-                    Field.Factory.F
-            );
+            return FACTORIES.viewOf(cursor);
+        }
+
+        @Override
+        public boolean appliesTo(Class<?> treeType) {
+            return FACTORIES.appliesTo(treeType);
         }
     }
 
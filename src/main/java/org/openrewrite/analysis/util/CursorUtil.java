@@ -73,6 +73,17 @@ public static Option<Cursor> findCallableBlockCursor(Cursor start) {
      */
     @Incubating(since = "2.4.0")
     public static Option<Cursor> findCursorForTree(Cursor start, Tree tree) {
+        Object scope = start.getParentTreeCursor().getValue();
+        TreeIndex index = TreeIndex.of(start);
+        Cursor indexed = index == null ? null : index.getCursor(tree);
+        if (indexed != null) {
+            for (Cursor c = indexed; c != null; c = c.getParent()) {
+                if (c.getValue() == scope) {
+                    return Option.some(indexed);
+                }
+            }
+        }
+        // Either not within a source file, or the tree is not part of the source file as it was when indexed
         AtomicReference<Cursor> found = new AtomicReference<>();
         new TreeCursorFinderVisitor(tree).visitNonNull(start.getParentTreeCursor().getValue(), found, start);
         return Option.fromNull(found.get());
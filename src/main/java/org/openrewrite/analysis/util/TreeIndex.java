@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.util;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The cursor of every tree in a source file by the id of the tree, built in a single pass over the source file the
+ * first time it is needed and cached on the cursor of the source file.
+ * <p>
+ * Every cursor is the one the pass visited the tree with, so its parent chain leads up to the source file.
+ */
+public final class TreeIndex {
+    private static final String TREE_INDEX = TreeIndex.class.getName();
+
+    private final Map<UUID, Cursor> cursorsById = new HashMap<>();
+
+    private TreeIndex() {
+    }
+
+    /**
+     * @param cursor Any cursor within a source file.
+     * @return The index of the source file, or {@code null} if the cursor is not within a source file.
+     */
+    public static @Nullable TreeIndex of(Cursor cursor) {
+        for (Cursor c = cursor; c != null; c = c.getParent()) {
+            if (c.getValue() instanceof SourceFile) {
+                Cursor sourceFile = c;
+                return sourceFile.computeMessageIfAbsent(TREE_INDEX, __ -> build(sourceFile));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The cursor of the first tree with this id in the source file, or {@code null} if there is none.
+     */
+    public @Nullable Cursor getCursor(UUID id) {
+        return cursorsById.get(id);
+    }
+
+    /**
+     * @return The cursor of the first tree in the source file with the same id as this tree, or {@code null} if
+     * there is none.
+     */
+    public @Nullable Cursor getCursor(Tree tree) {
+        return cursorsById.get(tree.getId());
+    }
+
+    private static TreeIndex build(Cursor sourceFile) {
+        TreeIndex index = new TreeIndex();
+        new TreeVisitor<Tree, Integer>() {
+            @Override
+            public Tree preVisit(Tree tree, Integer p) {
+                index.cursorsById.putIfAbsent(tree.getId(), getCursor());
+                return tree;
+            }
+        }.visit(sourceFile.getValue(), 0, sourceFile.getParentOrThrow());
+        return index;
+    }
+}
@@ -17,6 +17,7 @@
 
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.ExecutionContext;
 import org.openrewrite.analysis.InvocationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.tree.Expression;
@@ -152,4 +153,122 @@ void any(Object arg) {
           )
         );
     }
+
+    @Test
+    void constantFoldConcatenationAndArithmetic() {
+        rewriteRun(
+          spec -> spec.recipe(RewriteTest.toRecipe(() -> new JavaIsoVisitor<>() {
+              @Override
+              public Expression visitExpression(Expression expression, ExecutionContext ctx) {
+                  if (ConstantFoldVisitor.ALL_MATCHER.advanced().isFirstArgument(getCursor())) {
+                      var constantValue = ConstantFold.findConstantValue(getCursor());
+                      if (constantValue.isSome()) {
+                          return SearchResult.found(expression, String.valueOf(constantValue.some()));
+                      }
+                  }
+                  return super.visitExpression(expression, ctx);
+              }
+          })),
+          java(
+            """
+            class Test {
+                private static final String SCHEME = "http";
+                private static final int PORT = 8000 + 80;
+                void test() {
+                    String url = SCHEME + "://localhost:" + PORT;
+                    long twice = PORT * 2L;
+                    int mutable = 1;
+                    mutable++;
+                    any(url);
+                    any(twice);
+                    any((PORT / 2) - 1);
+                    any(mutable);
+                }
+
+                void any(Object arg) {
+                    // No-op
+                }
+            }
+            """,
+            """
+            class Test {
+                private static final String SCHEME = "http";
+                private static final int PORT = 8000 + 80;
+                void test() {
+                    String url = SCHEME + "://localhost:" + PORT;
+                    long twice = PORT * 2L;
+                    int mutable = 1;
+                    mutable++;
+                    any(/*~~(http://localhost:8080)~~>*/url);
+                    any(/*~~(16160)~~>*/twice);
+                    any(/*~~(4039)~~>*/(PORT / 2) - 1);
+                    any(mutable);
+                }
+
+                void any(Object arg) {
+                    // No-op
+                }
+            }
+            """
+          )
+        );
+    }
+
+    @Test
+    void constantFoldInRecord() {
+        rewriteRun(
+          spec -> spec.recipe(RewriteTest.toRecipe(() -> new JavaIsoVisitor<>() {
+              @Override
+              public Expression visitExpression(Expression expression, ExecutionContext ctx) {
+                  if (ConstantFoldVisitor.ALL_MATCHER.advanced().isFirstArgument(getCursor())) {
+                      var constantValue = ConstantFold.findConstantValue(getCursor());
+                      if (constantValue.isSome()) {
+                          return SearchResult.found(expression, String.valueOf(constantValue.some()));
+                      }
+                  }
+                  return super.visitExpression(expression, ctx);
+              }
+          })),
+          java(
+            """
+            record Point(int x, int y) {
+                private static final int ORIGIN = 0;
+
+                Point(int x, int y) {
+                    this.x = x + ORIGIN;
+                    this.y = y;
+                }
+
+                void test() {
+                    any(ORIGIN + 1);
+                    any(x);
+                }
+
+                static void any(Object arg) {
+                    // No-op
+                }
+            }
+            """,
+            """
+            record Point(int x, int y) {
+                private static final int ORIGIN = 0;
+
+                Point(int x, int y) {
+                    this.x = x + ORIGIN;
+                    this.y = y;
+                }
+
+                void test() {
+                    any(/*~~(1)~~>*/ORIGIN + 1);
+                    any(x);
+                }
+
+                static void any(Object arg) {
+                    // No-op
+                }
+            }
+            """
+          )
+        );
+    }
 }
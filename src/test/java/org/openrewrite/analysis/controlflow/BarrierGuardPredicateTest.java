@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.controlflow;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BarrierGuardPredicateTest {
+
+    @Test
+    void barrierGuardDecisionIsCachedPerPredicate() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        J.CompilationUnit cu = JavaParser.fromJavaVersion().build()
+          //language=java
+          .parse(ctx, """
+            class Test {
+                void test(boolean a, boolean b) {
+                    if (a) {
+                        System.out.println(1);
+                    }
+                    while (b) {
+                        System.out.println(2);
+                    }
+                }
+            }
+            """)
+          .map(J.CompilationUnit.class::cast)
+          .findFirst()
+          .orElseThrow();
+        AtomicReference<Cursor> body = new AtomicReference<>();
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Block visitBlock(J.Block block, Integer p) {
+                if (body.get() == null) {
+                    body.set(getCursor());
+                }
+                return super.visitBlock(block, p);
+            }
+        }.visit(cu.getClasses().get(0).getBody().getStatements().get(0), 0, new Cursor(new Cursor(null, cu), cu.getClasses().get(0)));
+        ControlFlowSummary summary = ControlFlow.startingAt(body.get()).findControlFlow().some();
+
+        AtomicInteger calls = new AtomicInteger();
+        BarrierGuardPredicate predicate = (guard, branch) -> {
+            calls.incrementAndGet();
+            return false;
+        };
+        summary.computeReachableBasicBlock(predicate);
+        assertThat(calls.get()).isEqualTo(2 * summary.getConditionNodes().size());
+
+        summary.computeReachableBasicBlock(predicate);
+        assertThat(calls.get()).isEqualTo(2 * summary.getConditionNodes().size());
+
+        summary.computeReachableBasicBlock((guard, branch) -> {
+            calls.incrementAndGet();
+            return false;
+        });
+        assertThat(calls.get()).isEqualTo(4 * summary.getConditionNodes().size());
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.controlflow;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.Cursor;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.RewriteTest.toRecipe;
+
+@SuppressWarnings({"UnusedAssignment", "ConstantConditions"})
+class BitVectorProblemTest implements RewriteTest {
+
+    @DocumentExample
+    @Test
+    void reachingDefinitions() {
+        rewriteRun(
+          spec -> spec.recipe(toRecipe(() -> new JavaIsoVisitor<>() {
+              @Override
+              public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                  J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                  if (!"println".equals(m.getSimpleName())) {
+                      return m;
+                  }
+                  ReachingDefinitions reachingDefinitions = ControlFlow.startingAt(getCursor())
+                    .findControlFlow()
+                    .map(ReachingDefinitions::analyze)
+                    .some();
+                  return m.withArguments(ListUtils.map(m.getArguments(), arg -> arg instanceof J.Identifier ?
+                    SearchResult.found(arg, String.valueOf(reachingDefinitions.getReachingDefinitions(
+                      new Cursor(getCursor(), arg), ((J.Identifier) arg).getSimpleName()).size())) :
+                    arg));
+              }
+          })),
+          //language=java
+          java(
+            """
+              class Test {
+                  void test(int p, boolean b) {
+                      int x = 1;
+                      if (b) {
+                          x = 2;
+                      }
+                      System.out.println(x);
+                      x = 3;
+                      System.out.println(x);
+                      System.out.println(p);
+                  }
+
+                  void loop(int n) {
+                      int i = 0;
+                      while (i < n) {
+                          System.out.println(i);
+                          i++;
+                      }
+                      System.out.println(i);
+                  }
+              }
+              """,
+            """
+              class Test {
+                  void test(int p, boolean b) {
+                      int x = 1;
+                      if (b) {
+                          x = 2;
+                      }
+                      System.out.println(/*~~(2)~~>*/x);
+                      x = 3;
+                      System.out.println(/*~~(1)~~>*/x);
+                      System.out.println(/*~~(1)~~>*/p);
+                  }
+
+                  void loop(int n) {
+                      int i = 0;
+                      while (i < n) {
+                          System.out.println(/*~~(2)~~>*/i);
+                          i++;
+                      }
+                      System.out.println(/*~~(2)~~>*/i);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void liveVariablesFindDeadStores() {
+        rewriteRun(
+          spec -> spec.recipe(toRecipe(() -> new JavaIsoVisitor<>() {
+              @Override
+              public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, ExecutionContext ctx) {
+                  J.VariableDeclarations.NamedVariable v = super.visitVariable(variable, ctx);
+                  if (v.getInitializer() != null && isDeadStore(getCursor(), v.getSimpleName())) {
+                      return SearchResult.found(v);
+                  }
+                  return v;
+              }
+
+              @Override
+              public J.Assignment visitAssignment(J.Assignment assignment, ExecutionContext ctx) {
+                  J.Assignment a = super.visitAssignment(assignment, ctx);
+                  if (a.getVariable() instanceof J.Identifier &&
+                      isDeadStore(new Cursor(getCursor(), a.getVariable()), ((J.Identifier) a.getVariable()).getSimpleName())) {
+                      return SearchResult.found(a);
+                  }
+                  return a;
+              }
+
+              private boolean isDeadStore(Cursor store, String name) {
+                  return ControlFlow.startingAt(store)
+                    .findControlFlow()
+                    .map(LiveVariables::analyze)
+                    .map(live -> !live.isLiveAfter(store, name))
+                    .orSome(false);
+              }
+          })),
+          //language=java
+          java(
+            """
+              class Test {
+                  int test(boolean b) {
+                      int x = 1;
+                      if (b) {
+                          x = 2;
+                      } else {
+                          x = 3;
+                      }
+                      int y = x;
+                      y = 4;
+                      return y;
+                  }
+              }
+              """,
+            """
+              class Test {
+                  int test(boolean b) {
+                      int /*~~>*/x = 1;
+                      if (b) {
+                          x = 2;
+                      } else {
+                          x = 3;
+                      }
+                      int /*~~>*/y = x;
+                      y = 4;
+                      return y;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.controlflow;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ControlFlowValidationTest {
+
+    @Test
+    void defaultsToFullValidation() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        assertThat(ControlFlowValidation.get(ctx)).isEqualTo(ControlFlowValidation.FULL);
+        assertThat(ControlFlowValidation.FULL.shouldValidate(ctx)).isTrue();
+    }
+
+    @Test
+    void offNeverValidates() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        ControlFlowValidation.set(ctx, ControlFlowValidation.OFF);
+        assertThat(ControlFlowValidation.get(ctx).shouldValidate(ctx)).isFalse();
+    }
+
+    @Test
+    void sampledValidatesOncePerInterval() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        ControlFlowValidation.set(ctx, ControlFlowValidation.SAMPLED);
+        int validated = 0;
+        for (int i = 0; i < ControlFlowValidation.SAMPLE_INTERVAL * 3; i++) {
+            if (ControlFlowValidation.get(ctx).shouldValidate(ctx)) {
+                validated++;
+            }
+        }
+        assertThat(validated).isEqualTo(3);
+    }
+
+    @Test
+    void offSkipsValidation() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        ControlFlowValidation.set(ctx, ControlFlowValidation.OFF);
+        ControlFlow flow = ControlFlow.startingAt(methodBodies(ctx, 1).get(0));
+
+        assertThat(flow.findControlFlow(ctx).isSome()).isTrue();
+        assertThat(flow.isValidated()).isFalse();
+    }
+
+    @Test
+    void sampledValidatesOneGraphPerInterval() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        ControlFlowValidation.set(ctx, ControlFlowValidation.SAMPLED);
+        int validated = 0;
+        for (Cursor body : methodBodies(ctx, ControlFlowValidation.SAMPLE_INTERVAL * 2 + 1)) {
+            ControlFlow flow = ControlFlow.startingAt(body);
+            assertThat(flow.findControlFlow(ctx).isSome()).isTrue();
+            if (flow.isValidated()) {
+                validated++;
+            }
+        }
+        assertThat(validated).isEqualTo(3);
+    }
+
+    @Test
+    void graphBuiltWithoutValidationIsValidatedForFullValidation() {
+        ExecutionContext off = new InMemoryExecutionContext();
+        ControlFlowValidation.set(off, ControlFlowValidation.OFF);
+        ControlFlow flow = ControlFlow.startingAt(methodBodies(off, 1).get(0));
+        ControlFlowSummary summary = flow.findControlFlow(off).some();
+        assertThat(flow.isValidated()).isFalse();
+
+        ExecutionContext full = new InMemoryExecutionContext();
+        assertThat(flow.findControlFlow(full).some()).isSameAs(summary);
+        assertThat(flow.isValidated()).isTrue();
+    }
+
+    private static List<Cursor> methodBodies(ExecutionContext ctx, int methods) {
+        StringBuilder source = new StringBuilder("class Test {\n");
+        for (int i = 0; i < methods; i++) {
+            source.append("    int m").append(i).append("(int a) {\n")
+              .append("        if (a > 0) {\n")
+              .append("            return a;\n")
+              .append("        }\n")
+              .append("        return -a;\n")
+              .append("    }\n");
+        }
+        source.append("}\n");
+        SourceFile cu = JavaParser.fromJavaVersion().build().parse(ctx, source.toString()).findFirst().orElseThrow();
+
+        List<Cursor> bodies = new ArrayList<>();
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Block visitBlock(J.Block block, Integer p) {
+                if (getCursor().getParentTreeCursor().getValue() instanceof J.MethodDeclaration) {
+                    bodies.add(getCursor());
+                }
+                return super.visitBlock(block, p);
+            }
+        }.visit(cu, 0, new Cursor(null, "root"));
+        return bodies;
+    }
+}
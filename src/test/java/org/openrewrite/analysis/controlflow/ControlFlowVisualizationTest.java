@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.controlflow;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.test.RewriteTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class ControlFlowVisualizationTest implements RewriteTest {
+
+    @Test
+    void onlyMethodsMatchingPattern() {
+        rewriteRun(
+          spec -> spec.recipe(new ControlFlowVisualization(false, false, "Test visualized()", null)),
+          //language=java
+          java(
+            """
+              class Test {
+                  void visualized() {
+                      int x = 1;
+                  }
+                  void skipped() {
+                      int x = 1;
+                  }
+              }
+              """,
+            """
+              class Test {
+                  void visualized() /*~~(BB: 1 CN: 0 EX: 1 | 1L)~~>*/{
+                      int x = 1;
+                  }
+                  void skipped() {
+                      int x = 1;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void writesOneDotfilePerMethod(@TempDir Path tempDir) throws Exception {
+        Path dotfile = tempDir.resolve("Test.java_Test#test().dot");
+        rewriteRun(
+          spec -> spec.recipe(new ControlFlowVisualization(true, false, null, tempDir.toString())),
+          //language=java
+          java(
+            """
+              class Test {
+                  void test() {
+                      int x = 1;
+                  }
+              }
+              """,
+            """
+              class Test {
+                  /*~~(Dotfile: %s)~~>*/void test() /*~~(BB: 1 CN: 0 EX: 1 | 1L)~~>*/{
+                      int x = 1;
+                  }
+              }
+              """.formatted(dotfile)
+          )
+        );
+        assertThat(Files.readAllLines(dotfile)).first().isEqualTo("digraph test {");
+    }
+
+    @Test
+    void overloadsAreWrittenToTheirOwnDotfile(@TempDir Path tempDir) throws Exception {
+        Path noArgs = tempDir.resolve("Test.java_Test#test().dot");
+        Path intArg = tempDir.resolve("Test.java_Test#test(int).dot");
+        rewriteRun(
+          spec -> spec.recipe(new ControlFlowVisualization(true, false, null, tempDir.toString())),
+          //language=java
+          java(
+            """
+              class Test {
+                  void test() {
+                      int x = 1;
+                  }
+                  void test(int y) {
+                      int x = y;
+                  }
+              }
+              """,
+            """
+              class Test {
+                  /*~~(Dotfile: %s)~~>*/void test() /*~~(BB: 1 CN: 0 EX: 1 | 1L)~~>*/{
+                      int x = 1;
+                  }
+                  /*~~(Dotfile: %s)~~>*/void test(int y) /*~~(BB: 1 CN: 0 EX: 1 | 1L)~~>*/{
+                      int x = y;
+                  }
+              }
+              """.formatted(noArgs, intArg)
+          )
+        );
+        assertThat(noArgs).exists();
+        assertThat(intArg).exists();
+    }
+}
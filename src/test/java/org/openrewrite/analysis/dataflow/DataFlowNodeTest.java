@@ -21,11 +21,13 @@
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Tree;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.analysis.trait.expr.Call;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.marker.SearchResult;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 import static org.openrewrite.test.RewriteTest.toRecipe;
 
@@ -70,6 +72,88 @@ int test(int /*~~>*/i) {
         );
     }
 
+    @Test
+    void nullableAccessorsAgreeWithOptionAccessors() {
+        rewriteRun(
+          spec -> spec.recipe(toRecipe(() -> new TreeVisitor<>() {
+              @Override
+              public @Nullable Tree preVisit(Tree tree, ExecutionContext executionContext) {
+                  Tree t = super.preVisit(tree, executionContext);
+                  DataFlowNode node = DataFlowNode.ofOrNull(getCursor());
+                  assertThat(DataFlowNode.of(getCursor()).isSome()).isEqualTo(node != null);
+                  if (node == null) {
+                      return t;
+                  }
+                  assertThat(node.asExprOrNull()).isEqualTo(node.asExpr().toNull());
+                  assertThat(node.asParameterOrNull()).isEqualTo(node.asParameter().toNull());
+                  assertThat(node.asExprParentOrNull(Call.class)).isEqualTo(node.asExprParent(Call.class).toNull());
+                  return SearchResult.found(t);
+              }
+          })),
+          java(
+                """
+            class A {
+               int test(int i) {
+                  i++;
+                  return i;
+               }
+            }
+            """,
+            """
+            class A {
+               int test(int /*~~>*/i) {
+                  /*~~>*//*~~>*/i++;
+                  return /*~~>*/i;
+               }
+            }
+            """
+          )
+        );
+    }
+
+    @Test
+    void internedNodesAreNumberedInTheOrderTheyAreSeen() {
+        rewriteRun(
+          spec -> spec.recipe(toRecipe(() -> new TreeVisitor<>() {
+              final DataFlowNodes nodes = new DataFlowNodes();
+
+              @Override
+              public @Nullable Tree preVisit(Tree tree, ExecutionContext executionContext) {
+                  Tree t = super.preVisit(tree, executionContext);
+                  int size = nodes.size();
+                  DataFlowNode node = nodes.of(getCursor());
+                  if (node == null) {
+                      assertThat(nodes.size()).isEqualTo(size);
+                      return t;
+                  }
+                  assertThat(node.getId()).isEqualTo(size);
+                  assertThat(nodes.get(size)).isSameAs(node);
+                  assertThat(nodes.of(getCursor())).isSameAs(node);
+                  assertThat(nodes.intern(DataFlowNode.ofOrThrow(getCursor()))).isSameAs(node);
+                  return SearchResult.found(t);
+              }
+          })),
+          java(
+                """
+            class A {
+               int test(int i) {
+                  i++;
+                  return i;
+               }
+            }
+            """,
+            """
+            class A {
+               int test(int /*~~>*/i) {
+                  /*~~>*//*~~>*/i++;
+                  return /*~~>*/i;
+               }
+            }
+            """
+          )
+        );
+    }
+
     @Test
     void noDataFlowNodes() {
         rewriteRun(
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.dataflow.global;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class CallGraphTest implements RewriteTest {
+
+    private static final String SHAPES = """
+      interface Shape {
+          double area();
+      }
+      class Square implements Shape {
+          public double area() {
+              return 4;
+          }
+      }
+      class Circle implements Shape {
+          public double area() {
+              return Math.PI;
+          }
+      }
+      class Test {
+          double total(Shape shape) {
+              return shape.area();
+          }
+          double test() {
+              return total(new Square());
+          }
+      }
+      """;
+
+    private static CallGraph build(CallGraph.Algorithm algorithm, String... sources) {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<SourceFile> sourceFiles = JavaParser.fromJavaVersion().build()
+          .parse(ctx, sources)
+          .collect(toList());
+        CallGraph.Builder builder = CallGraph.builder(algorithm);
+        for (SourceFile sourceFile : sourceFiles) {
+            builder.scanner().visit(sourceFile, ctx);
+        }
+        return builder.build();
+    }
+
+    private static List<String> signatures(CallGraph callGraph, int[] nodes) {
+        return Arrays.stream(nodes).mapToObj(callGraph::signature).collect(toList());
+    }
+
+    @Test
+    void classHierarchyAnalysisCallsEveryImplementation() {
+        CallGraph callGraph = build(CallGraph.Algorithm.CHA, SHAPES);
+
+        int total = callGraph.node("Test#total(Shape)");
+        assertThat(signatures(callGraph, callGraph.callees(total)))
+          .containsExactly("Circle#area()", "Shape#area()", "Square#area()");
+        assertThat(signatures(callGraph, callGraph.callers(callGraph.node("Circle#area()"))))
+          .containsExactly("Test#total(Shape)");
+        assertThat(signatures(callGraph, callGraph.implementations(callGraph.node("Shape#area()"))))
+          .containsExactly("Circle#area()", "Square#area()");
+    }
+
+    @Test
+    void rapidTypeAnalysisOnlyCallsImplementationsOfInstantiatedClasses() {
+        CallGraph callGraph = build(CallGraph.Algorithm.RTA, SHAPES);
+
+        assertThat(signatures(callGraph, callGraph.callees(callGraph.node("Test#total(Shape)"))))
+          .containsExactly("Shape#area()", "Square#area()");
+        assertThat(callGraph.isReachable(callGraph.node("Test#test()"), callGraph.node("Square#area()"))).isTrue();
+        assertThat(callGraph.isReachable(callGraph.node("Test#test()"), callGraph.node("Circle#area()"))).isFalse();
+        assertThat(callGraph.isReachable(callGraph.node("Square#area()"), callGraph.node("Test#test()"))).isFalse();
+    }
+
+    @Test
+    void flowIntoOverridingImplementation() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        GlobalDataFlowSettings.set(ctx, GlobalDataFlowSettings.DEFAULT.withCallGraph(CallGraph.Algorithm.CHA));
+        rewriteRun(
+          spec -> spec
+            .recipe(new MockGlobalDataFlowRecipe(GlobalDataFlowTest.DATA_FLOW_SPEC))
+            .executionContext(ctx)
+            .expectedCyclesThatMakeChanges(1)
+            .cycles(1),
+          java(
+            """
+              interface Transformer {
+                  String transform(String s);
+              }
+              """
+          ),
+          java(
+            """
+              class Identity implements Transformer {
+                  public String transform(String s) {
+                      return s;
+                  }
+              }
+              """,
+            """
+              class Identity implements Transformer {
+                  public String transform(String /*~~>*/s) {
+                      return /*~~>*/s;
+                  }
+              }
+              """
+          ),
+          java(
+            """
+              class Test {
+                  void test(Transformer transformer) {
+                      String t = transformer.transform("42");
+                      System.out.println(t);
+                  }
+              }
+              """,
+            """
+              class Test {
+                  void test(Transformer transformer) {
+                      String t = /*~~>*/transformer.transform(/*~~(source)~~>*/"42");
+                      System.out.println(/*~~(sink)~~>*/t);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -18,6 +18,7 @@
 import org.junit.jupiter.api.Test;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.MethodCall;
@@ -25,6 +26,7 @@
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 import static org.openrewrite.test.RewriteTest.toRecipe;
 
@@ -86,4 +88,31 @@ void test() {
           )
         );
     }
+
+    @Test
+    void genericCallSiteResolvesToCachedDeclaration() {
+        J.CompilationUnit cu = (J.CompilationUnit) JavaParser.fromJavaVersion().build()
+          .parse(
+            """
+              import java.util.List;
+              class Test {
+                  void test(List<String> list) {
+                      list.add("42");
+                  }
+              }
+              """
+          )
+          .findFirst()
+          .orElseThrow();
+        J.MethodDeclaration test = (J.MethodDeclaration) cu.getClasses().get(0).getBody().getStatements().get(0);
+        JavaType.Method add = ((J.MethodInvocation) test.getBody().getStatements().get(0)).getMethodType();
+        assertThat(add).isNotNull();
+
+        MethodTypeUtils.DeclarationMethods declarationMethods = new MethodTypeUtils.DeclarationMethods();
+        JavaType.Method declaration = declarationMethods.getDeclarationMethod(add);
+        assertThat(declaration).isNotSameAs(add);
+        assertThat(declaration.getParameterTypes()).singleElement().isInstanceOf(JavaType.GenericTypeVariable.class);
+        assertThat(declarationMethods.getDeclarationMethod(add)).isSameAs(declaration);
+        assertThat(MethodTypeUtils.getDeclarationMethod(add)).isSameAs(declaration);
+    }
 }
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.dataflow.global;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.analysis.dataflow.DataFlowNode;
+import org.openrewrite.analysis.dataflow.DataFlowSpec;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.JavaSourceFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalDataFlowAccumulatorTest {
+
+    private static final String TEST = """
+      class Test {
+          void test() {
+              String t = Util.requireNonNull("42");
+              System.out.println(t);
+          }
+      }
+      """;
+
+    private static final String UTIL = """
+      class Util {
+          static String requireNonNull(String obj) {
+              if (obj == null)
+                  throw new NullPointerException();
+              return obj;
+          }
+      }
+      """;
+
+    @Test
+    void concurrentScanningMatchesSequentialScanning() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<SourceFile> sourceFiles = JavaParser.fromJavaVersion().build()
+          .parse(ctx, TEST, UTIL)
+          .collect(toList());
+
+        GlobalDataFlow.Accumulator sequential = GlobalDataFlow.accumulator(GlobalDataFlowTest.DATA_FLOW_SPEC);
+        List<SourceFile> reversed = new ArrayList<>(sourceFiles);
+        Collections.reverse(reversed);
+        for (SourceFile sourceFile : reversed) {
+            sequential.scanner().visit(sourceFile, ctx);
+        }
+
+        GlobalDataFlow.Accumulator concurrent = GlobalDataFlow.accumulator(GlobalDataFlowTest.DATA_FLOW_SPEC);
+        CompletableFuture.allOf(sourceFiles.stream()
+          .map(sourceFile -> CompletableFuture.runAsync(() -> concurrent.scanner().visit(sourceFile, ctx)))
+          .toArray(CompletableFuture[]::new)
+        ).join();
+
+        assertThat(render(concurrent, sourceFiles, ctx))
+          .isEqualTo(render(sequential, sourceFiles, ctx))
+          .anySatisfy(printed -> assertThat(printed).contains("/*~~(sink)~~>*/t"))
+          .anySatisfy(printed -> assertThat(printed).contains("return /*~~>*/obj;"));
+    }
+
+    @Test
+    void spillingToDiskMatchesHeap(@TempDir Path spillDirectory) throws IOException {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<SourceFile> sourceFiles = JavaParser.fromJavaVersion().build()
+          .parse(ctx, TEST, UTIL)
+          .collect(toList());
+
+        GlobalDataFlow.Accumulator heap = GlobalDataFlow.accumulator(GlobalDataFlowTest.DATA_FLOW_SPEC);
+        GlobalDataFlow.Accumulator spilled = GlobalDataFlow.accumulator(
+          GlobalDataFlowTest.DATA_FLOW_SPEC,
+          GlobalDataFlowSettings.DEFAULT.withSpillThresholdBytes(0).withSpillDirectory(spillDirectory)
+        );
+        for (SourceFile sourceFile : sourceFiles) {
+            heap.scanner().visit(sourceFile, ctx);
+            spilled.scanner().visit(sourceFile, ctx);
+        }
+
+        assertThat(render(spilled, sourceFiles, ctx)).isEqualTo(render(heap, sourceFiles, ctx));
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void unchangedSourceFilesAreLoadedFromCache(@TempDir Path cacheDirectory) {
+        AtomicInteger specQueries = new AtomicInteger();
+        DataFlowSpec countingSpec = new DataFlowSpec() {
+            @Override
+            public boolean isSource(DataFlowNode srcNode) {
+                specQueries.incrementAndGet();
+                return GlobalDataFlowTest.DATA_FLOW_SPEC.isSource(srcNode);
+            }
+
+            @Override
+            public boolean isSink(DataFlowNode sinkNode) {
+                specQueries.incrementAndGet();
+                return GlobalDataFlowTest.DATA_FLOW_SPEC.isSink(sinkNode);
+            }
+        };
+        GlobalDataFlowSettings settings = GlobalDataFlowSettings.DEFAULT
+          .withCacheDirectory(cacheDirectory)
+          .withSpecFingerprint("test");
+
+        List<String> rendered = new ArrayList<>();
+        List<Integer> queriesWhileScanning = new ArrayList<>();
+        for (int run = 0; run < 2; run++) {
+            // Every run parses the source files again, so the tree ids differ between runs
+            ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+            List<SourceFile> sourceFiles = JavaParser.fromJavaVersion().build()
+              .parse(ctx, TEST, UTIL)
+              .collect(toList());
+            GlobalDataFlow.Accumulator acc = GlobalDataFlow.accumulator(countingSpec, settings);
+            specQueries.set(0);
+            for (SourceFile sourceFile : sourceFiles) {
+                acc.scanner().visit(sourceFile, ctx);
+            }
+            queriesWhileScanning.add(specQueries.get());
+            rendered.add(String.join("\n", render(acc, sourceFiles, ctx)));
+        }
+
+        assertThat(queriesWhileScanning.get(0)).isPositive();
+        assertThat(queriesWhileScanning.get(1)).isZero();
+        assertThat(rendered.get(1))
+          .isEqualTo(rendered.get(0))
+          .contains("/*~~(sink)~~>*/t");
+    }
+
+    @Test
+    void cachedSummaryIsInvalidatedByTheSignaturesOfOtherSourceFiles() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        JavaSourceFile test = parseFirst(ctx, TEST, UTIL);
+        JavaSourceFile reparsed = parseFirst(ctx, TEST, UTIL);
+        JavaSourceFile changedCallee = parseFirst(ctx, TEST, UTIL.replace("String obj", "CharSequence obj"));
+
+        MethodTypeUtils.DeclarationMethods declarationMethods = new MethodTypeUtils.DeclarationMethods();
+        assertThat(FlowSummaryCache.typeAttribution(reparsed, declarationMethods))
+          .isEqualTo(FlowSummaryCache.typeAttribution(test, declarationMethods));
+        assertThat(FlowSummaryCache.typeAttribution(changedCallee, declarationMethods))
+          .isNotEqualTo(FlowSummaryCache.typeAttribution(test, declarationMethods));
+    }
+
+    @Test
+    void unwritableCacheDirectoryIsIgnored(@TempDir Path tempDirectory) throws IOException {
+        // A regular file where the cache directory should be, so that no cache entry can be written
+        Path cacheDirectory = Files.createFile(tempDirectory.resolve("cache"));
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<SourceFile> sourceFiles = JavaParser.fromJavaVersion().build()
+          .parse(ctx, TEST, UTIL)
+          .collect(toList());
+
+        GlobalDataFlow.Accumulator uncached = GlobalDataFlow.accumulator(GlobalDataFlowTest.DATA_FLOW_SPEC);
+        GlobalDataFlow.Accumulator cached = GlobalDataFlow.accumulator(
+          GlobalDataFlowTest.DATA_FLOW_SPEC,
+          GlobalDataFlowSettings.DEFAULT.withCacheDirectory(cacheDirectory).withSpecFingerprint("test")
+        );
+        for (SourceFile sourceFile : sourceFiles) {
+            uncached.scanner().visit(sourceFile, ctx);
+            cached.scanner().visit(sourceFile, ctx);
+        }
+
+        assertThat(render(cached, sourceFiles, ctx)).isEqualTo(render(uncached, sourceFiles, ctx));
+        try (Stream<Path> files = Files.list(tempDirectory)) {
+            assertThat(files).containsExactly(cacheDirectory);
+        }
+    }
+
+    @Test
+    void summaryOnlyKeepsNodesThatCanParticipateInAFlow() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<SourceFile> sourceFiles = JavaParser.fromJavaVersion().build()
+          .parse(ctx, UTIL, """
+            class Local {
+                void local() {
+                    String s = "0";
+                    String t = s;
+                }
+            }
+            """)
+          .collect(toList());
+
+        MethodTypeUtils.DeclarationMethods declarationMethods = new MethodTypeUtils.DeclarationMethods();
+        FlowSummary util = PartialGlobalDataFlow.summarize(GlobalDataFlowTest.DATA_FLOW_SPEC, declarationMethods,
+          (JavaSourceFile) sourceFiles.get(0), ctx, new Cursor(null, "root"));
+        assertThat(util.getSourcePath()).isEqualTo(sourceFiles.get(0).getSourcePath());
+        assertThat(util.getMethodSignatures()).containsExactly("Util#requireNonNull(java.lang.String)");
+        assertThat(util.getRoleKinds()).contains(FlowSummary.Role.PARAMETER, FlowSummary.Role.RETURN);
+        assertThat(util.size()).isGreaterThan(0);
+
+        FlowSummary local = PartialGlobalDataFlow.summarize(GlobalDataFlowTest.DATA_FLOW_SPEC, declarationMethods,
+          (JavaSourceFile) sourceFiles.get(1), ctx, new Cursor(null, "root"));
+        assertThat(local.size()).isZero();
+        assertThat(local.roleCount()).isZero();
+    }
+
+    private static List<String> render(GlobalDataFlow.Accumulator acc, List<SourceFile> sourceFiles, ExecutionContext ctx) {
+        return sourceFiles.stream()
+          .map(sourceFile -> acc.renderer().visit(sourceFile, ctx))
+          .map(tree -> ((SourceFile) tree).printAll())
+          .collect(toList());
+    }
+
+    private static JavaSourceFile parseFirst(ExecutionContext ctx, String... sources) {
+        return (JavaSourceFile) JavaParser.fromJavaVersion().build()
+          .parse(ctx, sources)
+          .findFirst()
+          .orElseThrow(IllegalStateException::new);
+    }
+}
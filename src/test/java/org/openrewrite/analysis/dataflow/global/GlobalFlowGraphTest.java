@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.dataflow.global;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalFlowGraphTest {
+
+    @Test
+    void sinkReachabilityIsDecidedPerStronglyConnectedComponent() {
+        // 0 -> 1 -> 2 -> 0 is a cycle leading to the sink 3, 4 -> 5 -> 4 is a cycle that does not,
+        // and 6 only leads into the cycle without a sink.
+        int[][] edges = {{1}, {2}, {0, 3}, {}, {5}, {4}, {4}};
+        int[] flags = new int[edges.length];
+        flags[3] = FlowSummary.SINK;
+
+        try (GlobalFlowGraph graph = GlobalFlowGraph.link(
+          new ArrayList<>(List.of(summary(edges, flags))), GlobalDataFlowSettings.DEFAULT)) {
+            BitSet expected = new BitSet();
+            expected.set(0, 4);
+            assertThat(graph.sinkReachable()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void spilledGraphKeepsNeitherSummariesNorTablesOnTheHeap(@TempDir Path spillDirectory) {
+        int[][] edges = {{1}, {2}, {0, 3}, {}, {5}, {4}, {4}};
+        int[] flags = new int[edges.length];
+        flags[0] = FlowSummary.SOURCE;
+        flags[3] = FlowSummary.SINK;
+        List<FlowSummary> summaries = new ArrayList<>(List.of(summary(edges, flags)));
+
+        try (GlobalFlowGraph graph = GlobalFlowGraph.link(summaries, GlobalDataFlowSettings.DEFAULT
+          .withSpillThresholdBytes(0)
+          .withSpillDirectory(spillDirectory))) {
+            assertThat(graph.isSpilled()).isTrue();
+            assertThat(summaries).containsOnlyNulls();
+            assertThat(graph.findParticipants().isEmpty()).isFalse();
+            assertThat(graph.getHeapInts()).isZero();
+        }
+    }
+
+    @Test
+    void graphBelowTheSpillThresholdStaysOnTheHeap() {
+        int[][] edges = {{1}, {}};
+        int[] flags = {FlowSummary.SOURCE, FlowSummary.SINK};
+
+        try (GlobalFlowGraph graph = GlobalFlowGraph.link(
+          new ArrayList<>(List.of(summary(edges, flags))), GlobalDataFlowSettings.DEFAULT)) {
+            assertThat(graph.isSpilled()).isFalse();
+            assertThat(graph.getHeapInts()).isPositive();
+        }
+    }
+
+    private static FlowSummary summary(int[][] edges, int[] flags) {
+        int size = edges.length;
+        int[] edgeOffsets = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            edgeOffsets[i + 1] = edgeOffsets[i] + edges[i].length;
+        }
+        int[] edgeTargets = new int[edgeOffsets[size]];
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(edges[i], 0, edgeTargets, edgeOffsets[i], edges[i].length);
+        }
+        int[] callSites = new int[size];
+        Arrays.fill(callSites, FlowSummary.NO_CALL_SITE);
+        return new FlowSummary(
+          Paths.get("Test.java"),
+          new int[size],
+          new long[size],
+          new long[size],
+          flags,
+          callSites,
+          edgeOffsets,
+          edgeTargets,
+          new String[0],
+          new int[0],
+          new FlowSummary.Role[0],
+          new int[0],
+          new int[0]
+        );
+    }
+}
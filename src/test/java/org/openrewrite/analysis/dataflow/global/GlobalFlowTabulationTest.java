@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.dataflow.global;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class GlobalFlowTabulationTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        GlobalDataFlowSettings.set(ctx, GlobalDataFlowSettings.DEFAULT.withEngine(GlobalDataFlowSettings.Engine.TABULATION));
+        spec
+          .recipe(new MockGlobalDataFlowRecipe(GlobalDataFlowTest.DATA_FLOW_SPEC))
+          .executionContext(ctx)
+          .expectedCyclesThatMakeChanges(1)
+          .cycles(1);
+    }
+
+    @Test
+    void identityFunction() {
+        rewriteRun(
+          java(
+            """
+              class Test {
+                  String identity(String s) {
+                      return s;
+                  }
+
+                  void test() {
+                      String s = "42";
+                      String t = identity(s);
+                      System.out.println(t);
+                  }
+              }
+              """,
+            """
+              class Test {
+                  String identity(String /*~~>*/s) {
+                      return /*~~>*/s;
+                  }
+
+                  void test() {
+                      String s = /*~~(source)~~>*/"42";
+                      String t = /*~~>*/identity(/*~~>*/s);
+                      System.out.println(/*~~(sink)~~>*/t);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void returnOnlyFlowsBackToTheCallItWasEnteredThrough() {
+        rewriteRun(
+          java(
+            """
+              class Test {
+                  String identity(String s) {
+                      return s;
+                  }
+
+                  void test() {
+                      String a = identity("42");
+                      String b = identity("0");
+                      System.out.println(a);
+                      System.out.println(b);
+                  }
+              }
+              """,
+            """
+              class Test {
+                  String identity(String /*~~>*/s) {
+                      return /*~~>*/s;
+                  }
+
+                  void test() {
+                      String a = /*~~>*/identity(/*~~(source)~~>*/"42");
+                      String b = identity("0");
+                      System.out.println(/*~~(sink)~~>*/a);
+                      System.out.println(b);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void summaryOfMethodIsReusedForLaterCalls() {
+        rewriteRun(
+          java(
+            """
+              class Test {
+                  String identity(String s) {
+                      return s;
+                  }
+
+                  void test() {
+                      String a = identity("42");
+                      String b = identity(a);
+                      System.out.println(b);
+                  }
+              }
+              """,
+            """
+              class Test {
+                  String identity(String /*~~>*/s) {
+                      return /*~~>*/s;
+                  }
+
+                  void test() {
+                      String a = /*~~>*/identity(/*~~(source)~~>*/"42");
+                      String b = /*~~>*/identity(/*~~>*/a);
+                      System.out.println(/*~~(sink)~~>*/b);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void flowStartingInsideMethodReturnsToEveryCaller() {
+        rewriteRun(
+          java(
+            """
+              class Test {
+                  String answer() {
+                      return "42";
+                  }
+
+                  void test() {
+                      System.out.println(answer());
+                      String s = answer();
+                      System.out.println(s);
+                  }
+              }
+              """,
+            """
+              class Test {
+                  String answer() {
+                      return /*~~(source)~~>*/"42";
+                  }
+
+                  void test() {
+                      System.out.println(/*~~(sink)~~>*/answer());
+                      String s = /*~~>*/answer();
+                      System.out.println(/*~~(sink)~~>*/s);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
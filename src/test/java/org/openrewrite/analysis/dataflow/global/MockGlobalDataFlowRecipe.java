@@ -42,7 +42,7 @@ public class MockGlobalDataFlowRecipe extends ScanningRecipe<GlobalDataFlow.Accu
 
     @Override
     public GlobalDataFlow.Accumulator getInitialValue(ExecutionContext ctx) {
-        return GlobalDataFlow.accumulator(spec);
+        return GlobalDataFlow.accumulator(spec, ctx);
     }
 
     @Override
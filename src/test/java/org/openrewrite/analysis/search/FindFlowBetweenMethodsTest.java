@@ -17,8 +17,10 @@
 
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.analysis.table.SkippedSourceFiles;
 import org.openrewrite.test.RewriteTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 
 @SuppressWarnings("FunctionName")
@@ -317,6 +319,68 @@ static Integer provide() {
         );
     }
 
+    @Test
+    void sourceFilesWithoutCallPathToSourceAndSinkAreSkipped() {
+        rewriteRun(
+          spec -> spec.recipe(new FindFlowBetweenMethods(
+              "java.lang.Integer parseInt(String)",
+              true,
+              "java.io.PrintStream println(..)",
+              true,
+              "Arguments",
+              "Value"
+            ))
+            .dataTable(SkippedSourceFiles.Row.class, rows ->
+              assertThat(rows).extracting(SkippedSourceFiles.Row::getSourcePath).containsExactly("Unrelated.java")),
+          //language=java
+          java(
+            """
+              class Test {
+                  void test() {
+                      Integer x = Provider.provide();
+                      System.out.println(x);
+                  }
+              }
+              """,
+            """
+              class Test {
+                  void test() {
+                      Integer x = /*~~>*/Provider.provide();
+                      System.out.println(/*~~(sink)~~>*/x);
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              class Provider {
+                  static Integer provide() {
+                      return Integer.parseInt("42");
+                  }
+              }
+              """,
+            """
+              class Provider {
+                  static Integer provide() {
+                      return /*~~(source)~~>*/Integer.parseInt("42");
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              class Unrelated {
+                  Integer unrelated(String s) {
+                      return s.length();
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void expressionInAnnotationOverClass() {
         rewriteRun(
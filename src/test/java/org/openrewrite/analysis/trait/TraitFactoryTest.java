@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.trait;
+
+import fj.data.Validation;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.Cursor;
+import org.openrewrite.Tree;
+import org.openrewrite.analysis.trait.expr.Expr;
+import org.openrewrite.analysis.trait.expr.InstanceAccess;
+import org.openrewrite.analysis.trait.expr.Literal;
+import org.openrewrite.analysis.trait.util.TraitErrors;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.Space;
+import org.openrewrite.marker.Markers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraitFactoryTest {
+
+    @Test
+    void dispatchingOnlyTriesFactoriesThatApplyToTheTreeType() {
+        AtomicInteger tried = new AtomicInteger();
+        TraitFactory<Expr> dispatching = TraitFactory.dispatching(
+          Expr.class,
+          InstanceAccess.Factory.F,
+          new TraitFactory<Literal>() {
+              @Override
+              public Validation<TraitErrors, Literal> viewOf(Cursor cursor) {
+                  tried.incrementAndGet();
+                  return Literal.Factory.F.viewOf(cursor);
+              }
+
+              @Override
+              public boolean appliesTo(Class<?> treeType) {
+                  return Literal.Factory.F.appliesTo(treeType);
+              }
+          }
+        );
+        Cursor root = new Cursor(null, "root");
+        Cursor literal = new Cursor(root, new J.Literal(Tree.randomId(), Space.EMPTY, Markers.EMPTY, 1, "1", null, JavaType.Primitive.Int));
+        Cursor empty = new Cursor(root, new J.Empty(Tree.randomId(), Space.EMPTY, Markers.EMPTY));
+
+        assertThat(dispatching.viewOf(literal).isSuccess()).isTrue();
+        assertThat(dispatching.viewOf(empty).isFail()).isTrue();
+        assertThat(tried).hasValue(1);
+
+        assertThat(dispatching.appliesTo(J.Literal.class)).isTrue();
+        assertThat(dispatching.appliesTo(J.Empty.class)).isFalse();
+        assertThat(Expr.Factory.F.appliesTo(J.Empty.class)).isTrue();
+        assertThat(InstanceAccess.Factory.F.appliesTo(J.Literal.class)).isFalse();
+    }
+}
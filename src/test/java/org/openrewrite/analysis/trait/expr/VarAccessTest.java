@@ -16,14 +16,22 @@
 package org.openrewrite.analysis.trait.expr;
 
 import org.junit.jupiter.api.Test;
+import org.openrewrite.Cursor;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.analysis.trait.variable.Field;
+import org.openrewrite.analysis.trait.variable.LocalVariableDecl;
 import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.marker.SearchResult;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 import static org.openrewrite.test.RewriteTest.toRecipe;
@@ -118,4 +126,41 @@ void test(int a) {
           )
         );
     }
+
+    @Test
+    void resolvesTheClosestDeclarationWithTheSameOwner() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        J.CompilationUnit cu = (J.CompilationUnit) JavaParser.fromJavaVersion().build().parse(ctx,
+          """
+            class Test {
+                int x = 0;
+                void shadowed() {
+                    int x = 1;
+                    System.out.println(x);
+                    System.out.println(x);
+                }
+                void field() {
+                    System.out.println(x);
+                }
+            }
+            """
+        ).findFirst().orElseThrow();
+
+        List<VarAccess> accesses = new ArrayList<>();
+        new JavaIsoVisitor<List<VarAccess>>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, List<VarAccess> accesses) {
+                if ("x".equals(identifier.getSimpleName())) {
+                    VarAccess.viewOf(getCursor()).forEach(accesses::add);
+                }
+                return identifier;
+            }
+        }.visit(cu, accesses, new Cursor(null, "root"));
+
+        assertThat(accesses).hasSize(3);
+        assertThat(accesses.get(0).getVariable()).isInstanceOf(LocalVariableDecl.class);
+        // Every access to the same declaration shares one view of it
+        assertThat(accesses.get(1).getVariable()).isSameAs(accesses.get(0).getVariable());
+        assertThat(accesses.get(2).getVariable()).isInstanceOf(Field.class);
+    }
 }
@@ -16,14 +16,22 @@
 package org.openrewrite.analysis.trait.member;
 
 import org.junit.jupiter.api.Test;
+import org.openrewrite.Cursor;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.analysis.trait.variable.Parameter;
 import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.marker.SearchResult;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 import static org.openrewrite.test.RewriteTest.toRecipe;
 
@@ -67,4 +75,69 @@ class Test /*~~(<clinit>, <obinit>)~~>*/{
           )
         );
     }
+
+    @Test
+    void methodsAndTheirParametersAreSharedWithinASourceFile() {
+        ExecutionContext ctx = new InMemoryExecutionContext(e -> {
+            throw new AssertionError(e);
+        });
+        J.CompilationUnit cu = (J.CompilationUnit) JavaParser.fromJavaVersion().build().parse(ctx,
+          """
+            import java.util.function.BiFunction;
+            class Test {
+                void test(int a, String b) {
+                    BiFunction<Integer, String, String> f = (x, y) -> y + x;
+                }
+            }
+            """
+        ).findFirst().orElseThrow();
+        List<Method> methods = new ArrayList<>();
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Integer p) {
+                Parameter.viewOf(getCursor()).forEach(parameter -> {
+                    assertThat(Parameter.viewOf(getCursor()).success()).isSameAs(parameter);
+                    assertThat(parameter.getCallable().getParameters()).containsOnlyOnce(parameter);
+                    methods.add(parameter.getCallable());
+                });
+                return super.visitVariable(variable, p);
+            }
+        }.visit(cu, 0, new Cursor(null, "root"));
+
+        assertThat(methods).hasSize(4);
+        assertThat(methods.get(1)).isSameAs(methods.get(0));
+        assertThat(methods.get(3)).isSameAs(methods.get(2));
+        assertThat(methods.get(2).getName()).isEqualTo("apply");
+    }
+
+    @Test
+    void lambdasOfTheSameFunctionalInterfaceShareTheirSam() {
+        ExecutionContext ctx = new InMemoryExecutionContext(e -> {
+            throw new AssertionError(e);
+        });
+        J.CompilationUnit cu = (J.CompilationUnit) JavaParser.fromJavaVersion().build().parse(ctx,
+          """
+            import java.util.function.BiFunction;
+            class Test {
+                void test() {
+                    BiFunction<Integer, String, String> f = (x, y) -> y + x;
+                    BiFunction<String, String, Integer> g = (a, b) -> a.length() + b.length();
+                }
+            }
+            """
+        ).findFirst().orElseThrow();
+        List<Method> lambdas = new ArrayList<>();
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Lambda visitLambda(J.Lambda lambda, Integer p) {
+                Method.viewOf(getCursor()).forEach(lambdas::add);
+                return super.visitLambda(lambda, p);
+            }
+        }.visit(cu, 0, new Cursor(null, "root"));
+
+        assertThat(lambdas).hasSize(2);
+        assertThat(lambdas.get(1)).isNotSameAs(lambdas.get(0));
+        assertThat(lambdas.get(0).getName()).isEqualTo("apply");
+        assertThat(lambdas.get(1).getMethodType()).isSameAs(lambdas.get(0).getMethodType());
+    }
 }
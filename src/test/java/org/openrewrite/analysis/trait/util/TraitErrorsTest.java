@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.analysis.trait.util;
+
+import fj.data.Validation;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.Cursor;
+import org.openrewrite.Tree;
+import org.openrewrite.analysis.trait.expr.VarAccess;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.Space;
+import org.openrewrite.marker.Markers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraitErrorsTest {
+
+    @Test
+    void messagesAreOnlyRenderedWhenLookedAt() {
+        AtomicInteger rendered = new AtomicInteger();
+        TraitErrors errors = TraitErrors.semigroup.sum(
+          TraitErrors.fromSingleError("first"),
+          TraitErrors.fromSingleError(() -> {
+              rendered.incrementAndGet();
+              return "second";
+          })
+        );
+        assertThat(rendered).hasValue(0);
+
+        assertThat(errors).extracting(TraitError::getError).containsExactly("first", "second");
+        assertThat(errors.toString()).isEqualTo("TraitErrors: \n\t- first\n\t- second");
+        assertThat(rendered).hasValue(1);
+    }
+
+    @Test
+    void typeMismatchFailuresAreShared() {
+        Cursor cursor = new Cursor(new Cursor(null, "root"), new J.Empty(Tree.randomId(), Space.EMPTY, Markers.EMPTY));
+        Validation<TraitErrors, VarAccess> first =
+          TraitErrors.invalidTraitCreationType(VarAccess.class, cursor, J.Identifier.class);
+        Validation<TraitErrors, VarAccess> second =
+          TraitErrors.invalidTraitCreationType(VarAccess.class, cursor, J.Identifier.class);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.fail()).extracting(TraitError::getError).containsExactly(
+          "VarAccess must be created from " + J.Identifier.class + " but was " + J.Empty.class);
+    }
+}
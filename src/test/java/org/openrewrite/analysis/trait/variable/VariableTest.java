@@ -112,6 +112,40 @@ void test(int /*~~(a: 1)~~>*/a) {
         );
     }
 
+    @Test
+    void correctlyLabelsFieldAccessedFromAnotherClass() {
+        rewriteRun(
+          java(
+            """
+                class Test {
+                    int f;
+                    void test(int a) {
+                        f = a;
+                    }
+                }
+                class Other {
+                    void other(Test t) {
+                        t.f = 1;
+                    }
+                }
+                """,
+            """
+                class Test {
+                    int /*~~(f: 0)~~>*/f;
+                    void test(int /*~~(a: 1)~~>*/a) {
+                        /*~~(f: 0)~~>*/f = /*~~(a: 1)~~>*/a;
+                    }
+                }
+                class Other {
+                    void other(Test /*~~(t: 2)~~>*/t) {
+                        /*~~(t: 2)~~>*/t./*~~(f: 0)~~>*/f = 1;
+                    }
+                }
+                """
+          )
+        );
+    }
+
     @Test
     void correctlyLabelsWhenVariableRedefined() {
         rewriteRun(
@@ -16,7 +16,11 @@
 package org.openrewrite.analysis.util;
 
 import org.junit.jupiter.api.Test;
+import org.openrewrite.Cursor;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.test.RewriteTest;
@@ -56,4 +60,34 @@ void test() {
           )
         );
     }
+
+    @Test
+    void treeIndexFindsEveryTreeOfTheSourceFile() {
+        J.CompilationUnit cu = (J.CompilationUnit) JavaParser.fromJavaVersion().build().parse(
+          new InMemoryExecutionContext(),
+          """
+            class Test {
+                void test() {
+                    System.out.println("Hello, World!");
+                }
+            }
+            """
+        ).findFirst().orElseThrow();
+        Cursor cuCursor = new Cursor(new Cursor(null, "root"), cu);
+        TreeIndex index = TreeIndex.of(cuCursor);
+        assertThat(index).isNotNull();
+        assertThat(TreeIndex.of(cuCursor)).isSameAs(index);
+
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Literal visitLiteral(J.Literal literal, Integer p) {
+                Cursor indexed = index.getCursor(literal);
+                assertThat(indexed).isNotNull();
+                assertThat(indexed.<J>getValue()).isSameAs(literal);
+                assertThat(indexed.getParentTreeCursor().<J>getValue()).isSameAs(getCursor().getParentTreeCursor().getValue());
+                return literal;
+            }
+        }.visit(cu, 0, cuCursor.getParentOrThrow());
+        assertThat(TreeIndex.of(new Cursor(null, "root"))).isNull();
+    }
 }